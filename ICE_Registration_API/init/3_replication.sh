@@ -0,0 +1,4 @@
+#!/bin/bash
+# Lets the streaming replica from the docker-compose 'replica' profile connect
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
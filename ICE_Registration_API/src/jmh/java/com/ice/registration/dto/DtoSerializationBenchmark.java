@@ -0,0 +1,87 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.ice.registration.util.DurationFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list payloads returned by the artist and track endpoints,
+ * using the same ObjectMapper defaults Spring MVC uses. Output goes to a null stream so
+ * only the serialization cost is measured. {@code serializer=reflective} is Jackson's default
+ * bean serializer, {@code serializer=handwritten} the registered {@code @JsonComponent}s.
+ * {@code format} selects the encoding negotiated through the Accept header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DtoSerializationBenchmark {
+
+    private static final String[] GENRES = {"Rock", "Pop", "Jazz", "Hip Hop", "Classical", "Electronic"};
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"reflective", "handwritten"})
+    private String serializer;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<ArtistDto> artists;
+    private List<TrackDto> tracks;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        if ("handwritten".equals(serializer)) {
+            builder.modulesToInstall(new SimpleModule()
+                    .addSerializer(ArtistDto.class, new ArtistDtoSerializer())
+                    .addSerializer(TrackDto.class, new TrackDtoSerializer()));
+        }
+        objectMapper = builder.build();
+
+        SplittableRandom random = new SplittableRandom(42);
+        artists = new ArrayList<>(size);
+        tracks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            artists.add(new ArtistDto(i, "Artist " + i, "https://example.com/artist-" + i + ".jpg",
+                    "Description of artist " + i, random.nextInt(50), 0));
+            int lengthSeconds = 60 + random.nextInt(600);
+            tracks.add(new TrackDto(i, "Track " + i, GENRES[random.nextInt(GENRES.length)], lengthSeconds,
+                    DurationFormat.minutesSeconds(lengthSeconds)));
+        }
+    }
+
+    @Benchmark
+    public void artists() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), artists);
+    }
+
+    @Benchmark
+    public void tracks() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tracks);
+    }
+}
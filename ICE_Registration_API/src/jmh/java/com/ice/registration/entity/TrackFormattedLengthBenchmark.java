@@ -0,0 +1,52 @@
+package com.ice.registration.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Track#getFormattedLength()} over a spread of realistic track lengths (0 to 20 minutes),
+ * so a single cached value cannot hide the formatting cost. {@code stringFormat} is the
+ * previous {@code String.format} implementation, kept as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrackFormattedLengthBenchmark {
+
+    private static final int TRACKS = 1024;
+
+    private Track[] tracks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        tracks = new Track[TRACKS];
+        for (int i = 0; i < TRACKS; i++) {
+            tracks[i] = new Track("Track " + i, null, random.nextInt(20 * 60));
+        }
+    }
+
+    @Benchmark
+    public String formattedLength() {
+        Track track = tracks[next];
+        next = (next + 1) & (TRACKS - 1);
+        return track.getFormattedLength();
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        Track track = tracks[next];
+        next = (next + 1) & (TRACKS - 1);
+        int lengthSeconds = track.getLengthSeconds();
+        return String.format("%d:%02d", lengthSeconds / 60, lengthSeconds % 60);
+    }
+}
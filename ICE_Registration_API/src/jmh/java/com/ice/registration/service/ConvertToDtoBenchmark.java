@@ -0,0 +1,54 @@
+package com.ice.registration.service;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+import com.ice.registration.entity.Artist;
+import com.ice.registration.entity.Genre;
+import com.ice.registration.entity.Track;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion as done once per row on every artist and track read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertToDtoBenchmark {
+
+    private final ArtistService artistService = new ArtistService();
+    private final TrackService trackService = new TrackService();
+
+    private Artist artist;
+    private Track track;
+
+    @Setup
+    public void setUp() {
+        artist = new Artist("Artist 42", "https://example.com/artist-42.jpg", "Description of artist 42");
+        artist.setId(42);
+        artist.setTrackCount(17);
+        artist.setVersion(3);
+
+        Genre genre = new Genre("Rock");
+        genre.setId(1);
+        track = new Track("Track 4242", genre, 245);
+        track.setId(4242);
+    }
+
+    @Benchmark
+    public ArtistDto artistToDto() {
+        return artistService.convertToDto(artist);
+    }
+
+    @Benchmark
+    public TrackDto trackToDto() {
+        return trackService.convertToDto(track);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ice.registration;
+
+import com.ice.registration.service.ArtistTrackViewService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Rebuilds the artist_track_view read model from artist, track, genre and artist_track, using the
+ * same configuration as the API but without a web server:
+ *
+ * <pre>
+ * java -cp ice-registration-api.jar -Dloader.main=com.ice.registration.ArtistTrackViewRebuildApplication \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher
+ * </pre>
+ *
+ * The rebuild runs in one transaction, so the API keeps serving the old rows until it commits.
+ */
+public class ArtistTrackViewRebuildApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(IceRegistrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("ice.search.build-on-startup=false")
+                .run(args);
+
+        int exitCode = 0;
+        try {
+            context.getBean(ArtistTrackViewService.class).rebuild();
+        } catch (Exception e) {
+            System.err.println("Rebuild failed: " + e.getMessage());
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
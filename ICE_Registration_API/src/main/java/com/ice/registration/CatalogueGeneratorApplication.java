@@ -0,0 +1,121 @@
+package com.ice.registration;
+
+import com.ice.registration.catalogue.CatalogueFormat;
+import com.ice.registration.catalogue.CatalogueImportService;
+import com.ice.registration.catalogue.CatalogueKind;
+import com.ice.registration.catalogue.SyntheticCatalogue;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates a seeded synthetic catalogue (see {@link SyntheticCatalogue}) and loads it into the
+ * configured database through the catalogue import, or writes it out as import files with {@code --output}:
+ *
+ * <pre>
+ * java -cp ice-registration-api.jar -Dloader.main=com.ice.registration.CatalogueGeneratorApplication \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     --artists=1000000 --seed=42 [--genres=40 --zipf-exponent=2.0 --max-tracks-per-artist=10000 \
+ *     --collaboration-rate=0.1] [--output=target/catalogue]
+ * </pre>
+ *
+ * Each kind is generated while COPY reads it, so nothing is held in memory or written to disk on
+ * the way. Artists and tracks get {@code syn-} external ids, so loading the same shape and seed
+ * again updates the rows rather than adding more.
+ */
+public class CatalogueGeneratorApplication {
+
+    public static void main(String[] args) {
+        DefaultApplicationArguments arguments = new DefaultApplicationArguments(args);
+        SyntheticCatalogue catalogue;
+        try {
+            catalogue = new SyntheticCatalogue(shape(arguments));
+        } catch (RuntimeException e) {
+            System.err.println("Invalid catalogue shape: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.printf("Generating %d artists, about %.0f tracks, seed %d%n",
+                catalogue.getShape().getArtists(), catalogue.expectedTracks(), catalogue.getShape().getSeed());
+
+        if (arguments.containsOption("output")) {
+            try {
+                writeFiles(catalogue, Path.of(arguments.getOptionValues("output").get(0)));
+                System.exit(0);
+            } catch (IOException e) {
+                System.err.println("Catalogue generation failed: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(IceRegistrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("ice.search.build-on-startup=false")
+                .run(args);
+
+        int exitCode = 0;
+        try {
+            CatalogueImportService importService = context.getBean(CatalogueImportService.class);
+            for (CatalogueKind kind : CatalogueKind.values()) {
+                try (InputStream input = catalogue.open(kind)) {
+                    importService.importCatalogue(kind, CatalogueFormat.CSV, input);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Catalogue generation failed: " + e.getMessage());
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    // One gzipped CSV per kind, ready for CatalogueImportApplication --artists=artists.csv.gz etc.
+    static void writeFiles(SyntheticCatalogue catalogue, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (CatalogueKind kind : CatalogueKind.values()) {
+            Path file = directory.resolve(kind.getFileName() + ".csv.gz");
+            try (InputStream input = catalogue.open(kind);
+                 OutputStream output = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16), 1 << 16)) {
+                input.transferTo(output);
+            }
+            System.out.println("Wrote " + file);
+        }
+    }
+
+    static SyntheticCatalogue.Shape shape(DefaultApplicationArguments arguments) {
+        SyntheticCatalogue.Shape shape = new SyntheticCatalogue.Shape();
+        shape.setSeed(option(arguments, "seed", Long::parseLong, shape.getSeed()));
+        shape.setArtists(option(arguments, "artists", Integer::parseInt, shape.getArtists()));
+        shape.setGenres(option(arguments, "genres", Integer::parseInt, shape.getGenres()));
+        shape.setZipfExponent(option(arguments, "zipf-exponent", Double::parseDouble, shape.getZipfExponent()));
+        shape.setMaxTracksPerArtist(option(arguments, "max-tracks-per-artist", Integer::parseInt, shape.getMaxTracksPerArtist()));
+        shape.setCollaborationRate(option(arguments, "collaboration-rate", Double::parseDouble, shape.getCollaborationRate()));
+        return shape;
+    }
+
+    private static <T> T option(DefaultApplicationArguments arguments, String name, Function<String, T> parser, T defaultValue) {
+        List<String> values = arguments.getOptionValues(name);
+        if (values == null || values.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(values.get(0).replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("--" + name + " must be a number, got " + values.get(0));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ice.registration;
+
+import com.ice.registration.catalogue.CatalogueFormat;
+import com.ice.registration.catalogue.CatalogueImportService;
+import com.ice.registration.catalogue.CatalogueKind;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Command line catalogue import, using the same configuration as the API but without a web server:
+ *
+ * <pre>
+ * java -cp ice-registration-api.jar -Dloader.main=com.ice.registration.CatalogueImportApplication \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     --genres=genres.csv --artists=artists.ndjson --tracks=tracks.csv.gz --artist-tracks=links.csv
+ * </pre>
+ *
+ * Files are imported in dependency order, each in its own transaction; {@code .gz} files are
+ * decompressed on the fly.
+ */
+public class CatalogueImportApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(IceRegistrationApplication.class)
+                .web(WebApplicationType.NONE)
+                // The import never searches, so the in-memory index is not built
+                .properties("ice.search.build-on-startup=false")
+                .run(args);
+
+        int exitCode = 0;
+        try {
+            ApplicationArguments arguments = context.getBean(ApplicationArguments.class);
+            CatalogueImportService importService = context.getBean(CatalogueImportService.class);
+            for (CatalogueKind kind : CatalogueKind.values()) {
+                List<String> files = arguments.getOptionValues(kind.getFileName());
+                if (files == null) {
+                    continue;
+                }
+                for (String file : files) {
+                    try (InputStream input = open(Path.of(file))) {
+                        importService.importCatalogue(kind, CatalogueFormat.fromFileName(file), input);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Catalogue import failed: " + e.getMessage());
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+        return file.toString().endsWith(".gz") ? new GZIPInputStream(input, 1 << 16) : input;
+    }
+}
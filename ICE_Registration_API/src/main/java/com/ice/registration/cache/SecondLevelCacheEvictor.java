@@ -0,0 +1,25 @@
+package com.ice.registration.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Empties the second-level cache after writes made behind Hibernate's back. Only tracks and
+ * genres are cached, and the only writes to them that bypass Hibernate are catalogue imports,
+ * so the whole cache is dropped rather than individual entries.
+ *
+ * Eviction is local to this instance: the regions are not replicated, so an import run through
+ * another instance or the command line is seen here only once the region TTL expires.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public void evictAll() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ice.registration.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache regions, each backed by its own Caffeine cache. Every region named
+ * in an entity's {@code @Cache} must be listed here; Hibernate fails at startup otherwise.
+ */
+@ConfigurationProperties("ice.cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Map<String, Region> getRegions() { return regions; }
+    public void setRegions(Map<String, Region> regions) { this.regions = regions; }
+
+    public static class Region {
+
+        private long maxSize = 10_000;
+
+        // Bounds how long a row changed outside the application (manual SQL, restores) can be served stale
+        private Duration ttl = Duration.ofHours(1);
+
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+    }
+}
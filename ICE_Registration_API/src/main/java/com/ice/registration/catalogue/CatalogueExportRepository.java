@@ -0,0 +1,66 @@
+package com.ice.registration.catalogue;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads for the catalogue export. Artists are read through a server-side cursor in id order
+ * (the PostgreSQL driver only honours the fetch size inside a transaction); tracks are read
+ * for one id range of artists at a time, which the artist_track primary key serves directly.
+ * A single join would have to be sorted in full before its first row could be sent.
+ */
+@Repository
+public class CatalogueExportRepository {
+
+    public static final int FETCH_SIZE = 1_000;
+
+    private static final String ARTISTS = "SELECT id, name, picture, description, track_count FROM artist ORDER BY id";
+
+    private static final String TRACKS = """
+            SELECT at.artist_id, t.id, t.title, g.description, t.length_seconds
+            FROM artist_track at
+            JOIN track t ON t.id = at.track_id
+            LEFT JOIN genre g ON g.id = t.genre_id
+            WHERE at.artist_id BETWEEN ? AND ?
+            ORDER BY at.artist_id, at.track_id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes every artist to the consumer in id order, holding one fetch of rows at a time.
+     */
+    public void streamArtists(Consumer<ArtistDto> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ARTISTS);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            consumer.accept(new ArtistDto(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getInt(5)));
+        });
+    }
+
+    /**
+     * Returns artist id to tracks, ordered by track id, for artists with ids in the given range.
+     */
+    public Map<Integer, List<TrackDto>> findTracksByArtistIdBetween(int firstArtistId, int lastArtistId) {
+        Map<Integer, List<TrackDto>> tracks = new HashMap<>();
+        jdbcTemplate.query(TRACKS, rs -> {
+            Integer lengthSeconds = (Integer) rs.getObject(5);
+            tracks.computeIfAbsent(rs.getInt(1), artistId -> new ArrayList<>())
+                    .add(new TrackDto(rs.getInt(2), rs.getString(3), rs.getString(4), lengthSeconds));
+        }, firstArtistId, lastArtistId);
+        return tracks;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full catalogue export, written to the output as it is read. Artists are taken from the cursor
+ * a fetch at a time, their tracks looked up for the batch, and the batch written and flushed
+ * before the next fetch, so memory use does not depend on the size of the catalogue.
+ */
+@Service
+public class CatalogueExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueExportService.class);
+
+    static final int BATCH_SIZE = CatalogueExportRepository.FETCH_SIZE;
+
+    @Autowired
+    private CatalogueExportRepository catalogueExportRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Writes every artist with its tracks as NDJSON and returns the number of artists written.
+     * The artist and track reads share one repeatable-read transaction, so the whole export
+     * reflects a single snapshot even while writes continue.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportCatalogue(OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        List<ArtistDto> batch = new ArrayList<>(BATCH_SIZE);
+        long[] exported = {0};
+
+        try (CatalogueNdjsonWriter writer = new CatalogueNdjsonWriter(objectMapper.getFactory(), out)) {
+            try {
+                catalogueExportRepository.streamArtists(artist -> {
+                    batch.add(artist);
+                    if (batch.size() == BATCH_SIZE) {
+                        exported[0] += writeBatch(batch, writer);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            exported[0] += writeBatch(batch, writer);
+        }
+
+        log.info("Exported {} artists in {} ms", exported[0], (System.nanoTime() - started) / 1_000_000);
+        return exported[0];
+    }
+
+    private int writeBatch(List<ArtistDto> batch, CatalogueNdjsonWriter writer) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, List<TrackDto>> tracks = catalogueExportRepository.findTracksByArtistIdBetween(
+                batch.get(0).getId(), batch.get(batch.size() - 1).getId());
+        try {
+            for (ArtistDto artist : batch) {
+                writer.write(artist, tracks.getOrDefault(artist.getId(), List.of()));
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+}
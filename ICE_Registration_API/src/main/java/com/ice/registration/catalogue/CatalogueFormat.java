@@ -0,0 +1,34 @@
+package com.ice.registration.catalogue;
+
+public enum CatalogueFormat {
+
+    CSV,
+    NDJSON;
+
+    public static CatalogueFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new RuntimeException("Unsupported content type: " + contentType + " (expected text/csv or application/x-ndjson)");
+    }
+
+    public static CatalogueFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase();
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new RuntimeException("Unsupported file type: " + fileName + " (expected .csv, .ndjson or .jsonl)");
+    }
+}
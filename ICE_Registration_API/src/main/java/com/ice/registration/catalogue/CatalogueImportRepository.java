@@ -0,0 +1,153 @@
+package com.ice.registration.catalogue;
+
+import com.ice.registration.repository.ArtistTrackViewRepository;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL-specific SQL for the catalogue import: untyped staging tables filled through the
+ * COPY protocol, then one set-based statement per kind to merge the staged rows.
+ *
+ * Merges are keyed on external_id, so a file can be imported again. Optional columns that are
+ * missing or empty in the file leave the stored value alone. Staged rows that are invalid
+ * (blank or over-long values, an unknown genre, a non-positive length, a link to an unknown
+ * artist or track) are skipped rather than failing the import.
+ *
+ * The artist_track_view read model is kept current by the same statements, from the rows
+ * each merge returns (see {@link ArtistTrackViewRepository}).
+ */
+@Repository
+public class CatalogueImportRepository {
+
+    public static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String MERGE_GENRES = """
+            INSERT INTO genre (description)
+            SELECT DISTINCT trim(description) FROM import_genres
+            WHERE length(trim(description)) BETWEEN 1 AND 100
+            ON CONFLICT (description) DO NOTHING
+            """;
+
+    private static final String MERGE_ARTISTS = """
+            INSERT INTO artist (external_id, name, picture, description)
+            SELECT DISTINCT ON (external_id) external_id, trim(name), picture, description
+            FROM import_artists
+            WHERE length(external_id) BETWEEN 1 AND 255 AND length(trim(name)) BETWEEN 1 AND 255
+            ORDER BY external_id
+            ON CONFLICT (external_id) DO UPDATE
+            SET name = EXCLUDED.name,
+                picture = coalesce(EXCLUDED.picture, artist.picture),
+                description = coalesce(EXCLUDED.description, artist.description),
+                version = artist.version + 1
+            WHERE (artist.name, artist.picture, artist.description) IS DISTINCT FROM
+                  (EXCLUDED.name, coalesce(EXCLUDED.picture, artist.picture), coalesce(EXCLUDED.description, artist.description))
+            """;
+
+    // A changed track changes its artists' track lists, so their versions (and ETags) move too
+    private static final String MERGE_TRACKS = """
+            WITH merged AS (
+                INSERT INTO track (external_id, title, genre_id, length_seconds)
+                SELECT DISTINCT ON (s.external_id) s.external_id, trim(s.title), g.id, s.length_seconds::int
+                FROM import_tracks s
+                JOIN genre g ON g.description = trim(s.genre)
+                WHERE length(s.external_id) BETWEEN 1 AND 255
+                  AND length(trim(s.title)) BETWEEN 1 AND 255
+                  AND (s.length_seconds IS NULL OR s.length_seconds ~ '^[1-9][0-9]{0,8}$')
+                ORDER BY s.external_id
+                ON CONFLICT (external_id) DO UPDATE
+                SET title = EXCLUDED.title,
+                    genre_id = EXCLUDED.genre_id,
+                    length_seconds = coalesce(EXCLUDED.length_seconds, track.length_seconds)
+                WHERE (track.title, track.genre_id, track.length_seconds) IS DISTINCT FROM
+                      (EXCLUDED.title, EXCLUDED.genre_id, coalesce(EXCLUDED.length_seconds, track.length_seconds))
+                RETURNING id, title, genre_id, length_seconds
+            ), touched AS (
+                UPDATE artist a SET version = a.version + 1
+                FROM artist_track at JOIN merged m ON m.id = at.track_id
+                WHERE a.id = at.artist_id
+                RETURNING a.id
+            ), viewed AS (
+                UPDATE artist_track_view v
+                SET title = m.title, genre = g.description, length_seconds = m.length_seconds, formatted_length = %s
+                FROM merged m JOIN genre g ON g.id = m.genre_id
+                WHERE v.track_id = m.id
+            )
+            SELECT count(*) FROM merged
+            """.formatted(ArtistTrackViewRepository.formattedLength("m.length_seconds"));
+
+    // Bumps the denormalized track counts by the links actually added, as TrackService does
+    private static final String MERGE_ARTIST_TRACKS = """
+            WITH linked AS (
+                INSERT INTO artist_track (artist_id, track_id)
+                SELECT DISTINCT a.id, t.id
+                FROM import_artist_tracks s
+                JOIN artist a ON a.external_id = s.artist_external_id
+                JOIN track t ON t.external_id = s.track_external_id
+                ON CONFLICT DO NOTHING
+                RETURNING artist_id, track_id
+            ), viewed AS (
+                INSERT INTO artist_track_view (artist_id, track_id, title, genre, length_seconds, formatted_length)
+                SELECT l.artist_id, l.track_id, t.title, g.description, t.length_seconds, %s
+                FROM linked l
+                JOIN track t ON t.id = l.track_id
+                JOIN genre g ON g.id = t.genre_id
+            ), counted AS (
+                UPDATE artist a SET track_count = a.track_count + l.added, version = a.version + 1
+                FROM (SELECT artist_id, count(*) AS added FROM linked GROUP BY artist_id) l
+                WHERE a.id = l.artist_id
+                RETURNING l.added
+            )
+            SELECT coalesce(sum(added), 0) FROM counted
+            """.formatted(ArtistTrackViewRepository.formattedLength("t.length_seconds"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Dropped at commit; every column is text so that COPY never rejects a row for its values
+    public void createStagingTable(CatalogueKind kind) {
+        String columns = kind.getColumns().stream().map(column -> column + " text").collect(Collectors.joining(", "));
+        jdbcTemplate.execute("CREATE TEMP TABLE " + kind.getStagingTable() + " (" + columns + ") ON COMMIT DROP");
+    }
+
+    /**
+     * Streams headerless CSV with the given columns into the staging table and returns the
+     * number of rows copied.
+     */
+    public long copyIn(CatalogueKind kind, List<String> columns, InputStream csv) {
+        String sql = "COPY " + kind.getStagingTable() + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try {
+                return con.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, csv, COPY_BUFFER_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // Temporary tables are never analyzed by autovacuum; without statistics the merge joins are planned blind
+    public void analyzeStagingTable(CatalogueKind kind) {
+        jdbcTemplate.execute("ANALYZE " + kind.getStagingTable());
+    }
+
+    /**
+     * Merges the staged rows and returns how many rows were inserted or changed (links added,
+     * for artist-tracks).
+     */
+    public long merge(CatalogueKind kind) {
+        return switch (kind) {
+            case GENRES -> jdbcTemplate.update(MERGE_GENRES);
+            case ARTISTS -> jdbcTemplate.update(MERGE_ARTISTS);
+            case TRACKS -> jdbcTemplate.queryForObject(MERGE_TRACKS, Long.class);
+            case ARTIST_TRACKS -> jdbcTemplate.queryForObject(MERGE_ARTIST_TRACKS, Long.class);
+        };
+    }
+}
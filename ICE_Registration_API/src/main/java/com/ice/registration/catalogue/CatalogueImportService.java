@@ -0,0 +1,77 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.cache.SecondLevelCacheEvictor;
+import com.ice.registration.dto.CatalogueImportResultDto;
+import com.ice.registration.service.ArtistService;
+import com.ice.registration.service.GenreService;
+import com.ice.registration.service.SearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+
+/**
+ * Bulk catalogue import. Each file is streamed through COPY into a staging table and merged
+ * with set-based SQL in one transaction, so a file is imported completely or not at all and
+ * memory use does not depend on its size. Import genres, then artists, then tracks, then
+ * artist-tracks: each kind resolves references to the ones before it.
+ */
+@Service
+public class CatalogueImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueImportService.class);
+
+    @Autowired
+    private CatalogueImportRepository catalogueImportRepository;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional
+    public CatalogueImportResultDto importCatalogue(CatalogueKind kind, CatalogueFormat format, InputStream input) {
+        long started = System.nanoTime();
+        CatalogueReader reader = CatalogueReader.open(kind, format, input, objectMapper);
+        ProgressInputStream progress = new ProgressInputStream(kind.getFileName(), reader.getCsv());
+
+        catalogueImportRepository.createStagingTable(kind);
+        long rowsRead = catalogueImportRepository.copyIn(kind, reader.getColumns(), progress);
+        catalogueImportRepository.analyzeStagingTable(kind);
+        long rowsMerged = catalogueImportRepository.merge(kind);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Imported {}: {} rows read, {} merged, {} MB in {} ms, {} rows/s",
+                kind.getFileName(), rowsRead, rowsMerged, progress.getBytes() / (1024 * 1024),
+                elapsedMillis, rowsRead * 1000 / elapsedMillis);
+        return new CatalogueImportResultDto(kind.getFileName(), rowsRead, rowsMerged, elapsedMillis);
+    }
+
+    /**
+     * Brings this instance's in-memory views up to date after an import has committed; the
+     * import writes past the services that normally keep them current.
+     */
+    public void refreshAfterImport(CatalogueKind kind) {
+        secondLevelCacheEvictor.evictAll();
+        if (kind == CatalogueKind.GENRES) {
+            genreService.refresh();
+        } else {
+            artistService.evictFeaturedArtist();
+            searchService.rebuild();
+        }
+    }
+}
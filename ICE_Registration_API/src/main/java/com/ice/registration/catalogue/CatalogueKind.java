@@ -0,0 +1,53 @@
+package com.ice.registration.catalogue;
+
+import java.util.List;
+
+/**
+ * The kinds of catalogue file that can be imported, with the columns each accepts. Artists and
+ * tracks are identified by the caller's {@code external_id}, so re-importing a file updates the
+ * rows it created instead of duplicating them; links refer to both sides by that id and tracks
+ * refer to their genre by description.
+ */
+public enum CatalogueKind {
+
+    GENRES("genres", List.of("description"), List.of("description")),
+    ARTISTS("artists", List.of("external_id", "name", "picture", "description"), List.of("external_id", "name")),
+    TRACKS("tracks", List.of("external_id", "title", "genre", "length_seconds"), List.of("external_id", "title", "genre")),
+    ARTIST_TRACKS("artist-tracks", List.of("artist_external_id", "track_external_id"), List.of("artist_external_id", "track_external_id"));
+
+    private final String fileName;
+    private final List<String> columns;
+    private final List<String> requiredColumns;
+
+    CatalogueKind(String fileName, List<String> columns, List<String> requiredColumns) {
+        this.fileName = fileName;
+        this.columns = columns;
+        this.requiredColumns = requiredColumns;
+    }
+
+    public static CatalogueKind fromName(String name) {
+        for (CatalogueKind kind : values()) {
+            if (kind.fileName.equalsIgnoreCase(name)) {
+                return kind;
+            }
+        }
+        throw new RuntimeException("Unknown catalogue kind: " + name);
+    }
+
+    // Name used in the import URL and as the CLI option
+    public String getFileName() {
+        return fileName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<String> getRequiredColumns() {
+        return requiredColumns;
+    }
+
+    public String getStagingTable() {
+        return "import_" + fileName.replace("-", "_");
+    }
+}
@@ -0,0 +1,86 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes the export as NDJSON: one line per artist, with the artist's fields as in the API
+ * followed by its tracks, each with its genre name.
+ */
+class CatalogueNdjsonWriter implements Closeable {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString PHOTO = new SerializedString("photo");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString TRACK_COUNT = new SerializedString("trackCount");
+    private static final SerializedString TRACKS = new SerializedString("tracks");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString GENRE = new SerializedString("genre");
+    private static final SerializedString LENGTH_SECONDS = new SerializedString("lengthSeconds");
+    private static final SerializedString FORMATTED_LENGTH = new SerializedString("formattedLength");
+
+    private final JsonGenerator gen;
+
+    CatalogueNdjsonWriter(JsonFactory jsonFactory, OutputStream out) throws IOException {
+        // The caller owns the stream (the servlet response), so closing the writer only flushes it.
+        // Lines are ended explicitly rather than with Jackson's root value separator, a space.
+        this.gen = jsonFactory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    void write(ArtistDto artist, List<TrackDto> tracks) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        gen.writeNumber(artist.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(artist.getName());
+        gen.writeFieldName(PHOTO);
+        gen.writeString(artist.getPhoto());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(artist.getDescription());
+        gen.writeFieldName(TRACK_COUNT);
+        gen.writeNumber(artist.getTrackCount());
+        gen.writeFieldName(TRACKS);
+        gen.writeStartArray(tracks, tracks.size());
+        for (TrackDto track : tracks) {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(track.getId());
+            gen.writeFieldName(TITLE);
+            gen.writeString(track.getTitle());
+            gen.writeFieldName(GENRE);
+            gen.writeString(track.getGenre());
+            gen.writeFieldName(LENGTH_SECONDS);
+            if (track.getLengthSeconds() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(track.getLengthSeconds());
+            }
+            gen.writeFieldName(FORMATTED_LENGTH);
+            gen.writeString(track.getFormattedLength());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    void flush() throws IOException {
+        gen.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        gen.close();
+    }
+}
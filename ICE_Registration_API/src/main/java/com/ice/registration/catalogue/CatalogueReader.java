@@ -0,0 +1,196 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Presents a catalogue file as headerless CSV for {@code COPY ... FROM STDIN (FORMAT csv)}.
+ *
+ * A CSV file is passed through untouched after its header line, which only decides the column
+ * list. NDJSON is transcoded row by row as COPY reads it. Either way only a small buffer is held,
+ * whatever the size of the file. Column names may be written snake_case or camelCase.
+ */
+public final class CatalogueReader {
+
+    static final int MAX_HEADER_BYTES = 8 * 1024;
+    static final int NDJSON_CHUNK_CHARS = 64 * 1024;
+
+    private final List<String> columns;
+    private final InputStream csv;
+
+    private CatalogueReader(List<String> columns, InputStream csv) {
+        this.columns = columns;
+        this.csv = csv;
+    }
+
+    public static CatalogueReader open(CatalogueKind kind, CatalogueFormat format, InputStream input, ObjectMapper objectMapper) {
+        try {
+            return format == CatalogueFormat.CSV
+                    ? new CatalogueReader(readHeader(kind, input), input)
+                    : new CatalogueReader(kind.getColumns(), new NdjsonCsvInputStream(kind, objectMapper.readerFor(JsonNode.class).readValues(input)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Columns present in the file, in file order
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public InputStream getCsv() {
+        return csv;
+    }
+
+    // Reads up to and including the first line break, leaving the stream at the first data row
+    static List<String> readHeader(CatalogueKind kind, InputStream input) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != -1 && b != '\n') {
+            if (header.size() >= MAX_HEADER_BYTES) {
+                throw new RuntimeException("CSV header line is too long");
+            }
+            header.write(b);
+        }
+        String line = header.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").strip();
+        if (line.isEmpty()) {
+            throw new RuntimeException("CSV header line is missing");
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String name : line.split(",")) {
+            String column = column(kind, name.strip().replace("\"", ""));
+            if (columns.contains(column)) {
+                throw new RuntimeException("Duplicate column '" + column + "'");
+            }
+            columns.add(column);
+        }
+        for (String required : kind.getRequiredColumns()) {
+            if (!columns.contains(required)) {
+                throw new RuntimeException("Missing required column '" + required + "' for " + kind.getFileName());
+            }
+        }
+        return columns;
+    }
+
+    private static String column(CatalogueKind kind, String name) {
+        for (String column : kind.getColumns()) {
+            if (comparable(column).equals(comparable(name))) {
+                return column;
+            }
+        }
+        throw new RuntimeException("Unknown column '" + name + "' for " + kind.getFileName() + ", expected " + kind.getColumns());
+    }
+
+    // external_id, externalId and EXTERNAL_ID all name the same column
+    private static String comparable(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    static String camelCase(String column) {
+        StringBuilder name = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    /**
+     * Transcodes NDJSON objects to CSV rows in the kind's column order, a chunk at a time.
+     * A missing or null field becomes an unquoted empty value, which COPY reads as NULL.
+     */
+    static class NdjsonCsvInputStream extends InputStream {
+
+        private final MappingIterator<JsonNode> rows;
+        private final List<String> columns;
+        private final List<String> jsonNames;
+        private final StringBuilder chunk = new StringBuilder(NDJSON_CHUNK_CHARS + 1024);
+        private byte[] buffer = new byte[0];
+        private int position;
+        private long row;
+
+        NdjsonCsvInputStream(CatalogueKind kind, MappingIterator<JsonNode> rows) {
+            this.rows = rows;
+            this.columns = kind.getColumns();
+            this.jsonNames = columns.stream().map(CatalogueReader::camelCase).toList();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position >= buffer.length && !fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= buffer.length && !fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.length - position);
+            System.arraycopy(buffer, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+
+        private boolean fill() throws IOException {
+            chunk.setLength(0);
+            try {
+                while (chunk.length() < NDJSON_CHUNK_CHARS && rows.hasNextValue()) {
+                    appendRow(rows.nextValue());
+                    row++;
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Invalid NDJSON at row " + (row + 1) + ": " + e.getMessage(), e);
+            }
+            buffer = chunk.toString().getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return buffer.length > 0;
+        }
+
+        private void appendRow(JsonNode node) {
+            if (!node.isObject()) {
+                throw new RuntimeException("expected a JSON object");
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    chunk.append(',');
+                }
+                JsonNode value = node.get(columns.get(i));
+                if (value == null) {
+                    value = node.get(jsonNames.get(i));
+                }
+                if (value != null && !value.isNull()) {
+                    String text = value.isValueNode() ? value.asText() : value.toString();
+                    chunk.append('"').append(text.replace("\"", "\"\"")).append('"');
+                }
+            }
+            chunk.append('\n');
+        }
+    }
+}
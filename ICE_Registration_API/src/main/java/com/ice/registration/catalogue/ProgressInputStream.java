@@ -0,0 +1,76 @@
+package com.ice.registration.catalogue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes and rows read through it and logs the import's progress every few seconds.
+ * Rows are counted by line breaks, so a quoted value spanning lines makes the count approximate.
+ */
+class ProgressInputStream extends FilterInputStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressInputStream.class);
+
+    static final long REPORT_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final String label;
+    private final long started = System.nanoTime();
+    private long lastReport = started;
+    private long bytes;
+    private long rows;
+
+    ProgressInputStream(String label, InputStream in) {
+        super(in);
+        this.label = label;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            bytes++;
+            if (b == '\n') {
+                rows++;
+            }
+            report();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            bytes += count;
+            for (int i = offset; i < offset + count; i++) {
+                if (buffer[i] == '\n') {
+                    rows++;
+                }
+            }
+            report();
+        }
+        return count;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    private void report() {
+        long now = System.nanoTime();
+        if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+            lastReport = now;
+            long elapsedMillis = Math.max(1, (now - started) / 1_000_000);
+            log.info("Importing {}: {} rows, {} MB read, {} rows/s",
+                    label, rows, bytes / (1024 * 1024), rows * 1000 / elapsedMillis);
+        }
+    }
+}
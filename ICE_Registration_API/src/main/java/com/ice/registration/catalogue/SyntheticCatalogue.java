@@ -0,0 +1,323 @@
+package com.ice.registration.catalogue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Seeded synthetic catalogue for performance testing, produced as import CSV (header line included)
+ * for each {@link CatalogueKind}, so it loads through the COPY import like any other catalogue.
+ *
+ * Every artist draws from its own random stream, derived from the seed and its number, so the
+ * files are identical for the same shape and seed, and the tracks and artist-tracks files agree
+ * without either being held in memory. Tracks per artist follow a Zipf distribution: most artists
+ * have a handful, a few have thousands. A share of tracks are collaborations with other artists.
+ */
+public final class SyntheticCatalogue {
+
+    static final int CHUNK_CHARS = 64 * 1024;
+
+    private static final String[] GENRES = {
+            "Indie Rock", "Pop", "Hip Hop", "Electronic", "Country", "Metal", "Jazz", "Classical", "R&B", "Soul",
+            "Folk", "Blues", "Reggae", "Punk", "Techno", "House", "Ambient", "Drum and Bass", "Dubstep", "Trap",
+            "Grime", "K-Pop", "J-Pop", "Afrobeats", "Latin", "Reggaeton", "Salsa", "Bossa Nova", "Gospel", "Funk",
+            "Disco", "Synthwave", "Shoegaze", "Post-Rock", "Grunge", "Emo", "Ska", "Bluegrass", "Americana", "Trance"};
+
+    private static final String[] ADJECTIVES = {
+            "Silent", "Electric", "Golden", "Broken", "Midnight", "Velvet", "Crimson", "Hollow", "Neon", "Wild",
+            "Lonely", "Burning", "Frozen", "Gentle", "Restless", "Secret", "Distant", "Paper", "Static", "Lucky",
+            "Bitter", "Sleepy", "Cosmic", "Rusty", "Tender", "Savage", "Quiet", "Endless", "Faded", "Bright"};
+
+    private static final String[] NOUNS = {
+            "Heart", "River", "Engine", "Moon", "Garden", "Machine", "Ocean", "Shadow", "Tiger", "Mirror",
+            "Highway", "Ghost", "Signal", "Harbour", "Forest", "Parade", "Echo", "Satellite", "Window", "Crown",
+            "Lantern", "Coyote", "Thunder", "Orchard", "Circus", "Pilot", "Wolves", "Cathedral", "Static", "Rain"};
+
+    private static final String[] DESCRIPTION_WORDS = {
+            "a", "the", "band", "from", "with", "their", "sound", "debut", "album", "tour", "known", "for", "live",
+            "shows", "blending", "influences", "of", "and", "late", "night", "radio", "record", "label", "formed",
+            "in", "after", "years", "playing", "small", "clubs", "across", "country", "critics", "praised", "raw",
+            "energy", "lyrics", "about", "love", "loss", "cities", "second", "single", "charted", "worldwide"};
+
+    private final Shape shape;
+    private final ZipfDistribution tracksPerArtist;
+    private final ZipfDistribution genrePopularity;
+
+    public SyntheticCatalogue(Shape shape) {
+        if (shape.getArtists() < 1 || shape.getGenres() < 1 || shape.getGenres() > GENRES.length * 100) {
+            throw new RuntimeException("A synthetic catalogue needs at least one artist and between 1 and "
+                    + GENRES.length * 100 + " genres");
+        }
+        this.shape = shape;
+        this.tracksPerArtist = new ZipfDistribution(shape.getMaxTracksPerArtist(), shape.getZipfExponent());
+        this.genrePopularity = new ZipfDistribution(shape.getGenres(), 1.0);
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    // Tracks the catalogue will hold, on average, for its shape
+    public double expectedTracks() {
+        return shape.getArtists() * tracksPerArtist.mean();
+    }
+
+    /**
+     * The catalogue file for {@code kind}, generated as it is read: memory use does not depend on
+     * the catalogue size.
+     */
+    public InputStream open(CatalogueKind kind) {
+        return new GeneratedCsvInputStream(String.join(",", kind.getColumns()) + "\n", switch (kind) {
+            case GENRES -> rows(shape.getGenres(), (row, genre) -> quoted(row, genreName(genre)).append('\n'));
+            case ARTISTS -> rows(shape.getArtists(), this::appendArtist);
+            case TRACKS -> rows(shape.getArtists(), (row, artist) -> forEachTrack(artist, track -> appendTrack(row, track)));
+            case ARTIST_TRACKS -> rows(shape.getArtists(), (row, artist) -> forEachTrack(artist, track -> appendLinks(row, track)));
+        });
+    }
+
+    private void appendArtist(StringBuilder row, int artist) {
+        SplittableRandom random = random(artist, 0);
+        row.append("syn-a").append(artist).append(',');
+        quoted(row, artistName(random)).append(',');
+        if (random.nextInt(5) > 0) {
+            row.append("https://picsum.photos/seed/syn-a").append(artist).append("/400");
+        }
+        row.append(',');
+        // A third of artists have no description; the rest up to a short biography
+        if (random.nextInt(3) > 0) {
+            quoted(row, sentence(random, 8 + random.nextInt(160)));
+        }
+        row.append('\n');
+    }
+
+    private void appendTrack(StringBuilder row, Track track) {
+        row.append(track.externalId()).append(',');
+        quoted(row, track.title()).append(',');
+        quoted(row, genreName(track.genre())).append(',');
+        row.append(track.lengthSeconds()).append('\n');
+    }
+
+    private void appendLinks(StringBuilder row, Track track) {
+        row.append("syn-a").append(track.artist()).append(',').append(track.externalId()).append('\n');
+        for (int collaborator : track.collaborators()) {
+            row.append("syn-a").append(collaborator).append(',').append(track.externalId()).append('\n');
+        }
+    }
+
+    /**
+     * Generates an artist's tracks in the same order, with the same values, for every file that needs them.
+     */
+    private void forEachTrack(int artist, Consumer<Track> consumer) {
+        SplittableRandom random = random(artist, 1);
+        int count = tracksPerArtist.sample(random);
+        // Most of an artist's tracks share its main genre
+        int mainGenre = genrePopularity.sample(random);
+        for (int i = 1; i <= count; i++) {
+            String title = titleCase(random, 1 + random.nextInt(random.nextInt(4) == 0 ? 7 : 3));
+            int genre = random.nextInt(10) < 7 ? mainGenre : genrePopularity.sample(random);
+            // Around three and a half minutes, from half a minute to twenty
+            int lengthSeconds = (int) Math.max(30, Math.min(1200, Math.round(210 * Math.exp(random.nextGaussian() * 0.35))));
+            int[] collaborators = new int[0];
+            if (shape.getArtists() > 1 && random.nextDouble() < shape.getCollaborationRate()) {
+                collaborators = random.ints(1 + random.nextInt(3), 1, shape.getArtists() + 1)
+                        .filter(other -> other != artist).distinct().toArray();
+            }
+            consumer.accept(new Track("syn-t" + artist + "-" + i, artist, title, genre, lengthSeconds, collaborators));
+        }
+    }
+
+    private String genreName(int genre) {
+        String name = GENRES[(genre - 1) % GENRES.length];
+        return genre <= GENRES.length ? name : name + " " + ((genre - 1) / GENRES.length + 1);
+    }
+
+    private static String artistName(SplittableRandom random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> "The " + pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+            case 1 -> pick(random, NOUNS) + " & the " + pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+            case 2 -> pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+            case 3 -> pick(random, NOUNS);
+            default -> titleCase(random, 2 + random.nextInt(3));
+        };
+    }
+
+    private static String titleCase(SplittableRandom random, int words) {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(random.nextBoolean() ? pick(random, ADJECTIVES) : pick(random, NOUNS));
+        }
+        return title.toString();
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = pick(random, DESCRIPTION_WORDS);
+            if (i == 0) {
+                text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                text.append(random.nextInt(12) == 0 ? ", " : " ").append(word);
+            }
+        }
+        return text.append('.').toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    private static StringBuilder quoted(StringBuilder row, String value) {
+        return row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    // Independent stream per artist and purpose, so any artist's rows can be regenerated on their own
+    private SplittableRandom random(int artist, int stream) {
+        return new SplittableRandom(shape.getSeed() * 0x9E3779B97F4A7C15L + artist * 2L + stream);
+    }
+
+    private static RowSource rows(int count, RowWriter writer) {
+        return new RowSource() {
+            private int next = 1;
+
+            @Override
+            public boolean append(StringBuilder chunk) {
+                if (next > count) {
+                    return false;
+                }
+                writer.write(chunk, next++);
+                return true;
+            }
+        };
+    }
+
+    private record Track(String externalId, int artist, String title, int genre, int lengthSeconds, int[] collaborators) {}
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(StringBuilder chunk, int number);
+    }
+
+    private interface RowSource {
+        // Appends the next rows, returning false once there are none left
+        boolean append(StringBuilder chunk);
+    }
+
+    /**
+     * Pulls rows from a {@link RowSource} a chunk at a time as the stream is read.
+     */
+    private static class GeneratedCsvInputStream extends InputStream {
+
+        private final RowSource rows;
+        private final StringBuilder chunk = new StringBuilder(CHUNK_CHARS + 1024);
+        private byte[] buffer;
+        private int position;
+
+        GeneratedCsvInputStream(String header, RowSource rows) {
+            this.rows = rows;
+            this.buffer = header.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position >= buffer.length && !fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= buffer.length && !fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.length - position);
+            System.arraycopy(buffer, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean fill() {
+            chunk.setLength(0);
+            while (chunk.length() < CHUNK_CHARS) {
+                if (!rows.append(chunk)) {
+                    break;
+                }
+            }
+            buffer = chunk.toString().getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return buffer.length > 0;
+        }
+    }
+
+    /**
+     * Size and shape of a synthetic catalogue. The defaults give about six tracks per artist on
+     * average, with the busiest artists in the thousands.
+     */
+    public static class Shape {
+
+        private long seed = 42;
+        private int artists = 1_000_000;
+        private int genres = 40;
+        private double zipfExponent = 2.0;
+        private int maxTracksPerArtist = 10_000;
+        // Share of tracks with one to three featured artists besides their own
+        private double collaborationRate = 0.1;
+
+        // Getters and setters
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+
+        public int getArtists() {
+            return artists;
+        }
+
+        public void setArtists(int artists) {
+            this.artists = artists;
+        }
+
+        public int getGenres() {
+            return genres;
+        }
+
+        public void setGenres(int genres) {
+            this.genres = genres;
+        }
+
+        public double getZipfExponent() {
+            return zipfExponent;
+        }
+
+        public void setZipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+        }
+
+        public int getMaxTracksPerArtist() {
+            return maxTracksPerArtist;
+        }
+
+        public void setMaxTracksPerArtist(int maxTracksPerArtist) {
+            this.maxTracksPerArtist = maxTracksPerArtist;
+        }
+
+        public double getCollaborationRate() {
+            return collaborationRate;
+        }
+
+        public void setCollaborationRate(double collaborationRate) {
+            this.collaborationRate = collaborationRate;
+        }
+    }
+}
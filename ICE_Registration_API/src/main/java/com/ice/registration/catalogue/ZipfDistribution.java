@@ -0,0 +1,42 @@
+package com.ice.registration.catalogue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over 1..n: value k is drawn with probability proportional to 1 / k^exponent,
+ * so small values are common and large ones rare but present. Sampled by binary search over the
+ * cumulative weights.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1 || exponent <= 0) {
+            throw new RuntimeException("Zipf distribution needs n >= 1 and a positive exponent");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int k = 1; k <= n; k++) {
+            total += 1 / Math.pow(k, exponent);
+            cumulative[k - 1] = total;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+
+    double mean() {
+        double weighted = 0;
+        double previous = 0;
+        for (int k = 1; k <= cumulative.length; k++) {
+            weighted += k * (cumulative[k - 1] - previous);
+            previous = cumulative[k - 1];
+        }
+        return weighted / cumulative[cumulative.length - 1];
+    }
+}
@@ -1,20 +1,37 @@
 package com.ice.registration.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ice.registration.datasource.ReadYourWrites;
 import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPageDto;
+import com.ice.registration.dto.ArtistPatchDto;
 import com.ice.registration.dto.TrackDto;
 import com.ice.registration.service.ArtistService;
+import com.ice.registration.service.GenreService;
 import com.ice.registration.service.TrackService;
+import com.ice.registration.service.VersionConflictException;
+import com.ice.registration.web.ETags;
+import com.ice.registration.web.SingleFlight;
+import com.ice.registration.web.SingleFlightTimeoutException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/artists")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", exposedHeaders = {ArtistController.NEXT_CURSOR_HEADER, HttpHeaders.LINK, HttpHeaders.ETAG})
 public class ArtistController {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
     
     @Autowired
     private ArtistService artistService;
@@ -22,6 +39,12 @@ public class ArtistController {
     @Autowired
     private TrackService trackService;
 
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
 
     // Add this to your ArtistController
     /**
@@ -34,45 +57,165 @@ public class ArtistController {
     }
 
     /**
-     * GET /api/artists - Get all artists
+     * GET /api/artists?after={id}&limit={n} - Get a page of artists ordered by id.
+     * The cursor for the next page is returned in the X-Next-Cursor and Link headers.
      */
     @GetMapping
-    public ResponseEntity<List<ArtistDto>> getAllArtists() {
-        List<ArtistDto> artists = artistService.getAllArtists();
-        return ResponseEntity.ok(artists);
+    public ResponseEntity<List<ArtistDto>> getAllArtists(@RequestParam(required = false) Integer after,
+                                                         @RequestParam(required = false) Integer limit) {
+        ArtistPageDto page = artistService.getAllArtists(after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", page.getLimit())
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getArtists());
     }
     
     /**
-     * GET /api/artists/{id} - Get artist by ID
+     * GET /api/artists/{id} - Get artist by ID.
+     * The artist version is sent as the ETag, one per representation (see {@link ETags#forAccept});
+     * a request with If-None-Match first looks up the version alone and gets a 304 on a match,
+     * without loading the artist. Concurrent requests for the same artist share one load (503 if
+     * it does not finish in time).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ArtistDto> getArtistById(@PathVariable Integer id) {
-        Optional<ArtistDto> artist = artistService.getArtistById(id);
-        return artist.map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<ArtistDto> getArtistById(@PathVariable Integer id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = artistService.getArtistVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String eTag = ETags.forAccept(ETags.of(version.get()), accept);
+            if (ETags.matchesAny(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        Optional<ArtistDto> artist;
+        try {
+            artist = loadShared("artist", id, () -> artistService.getArtistById(id));
+        } catch (SingleFlightTimeoutException e) {
+            return serviceUnavailable();
+        }
+        if (artist.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Compared again on the shared result, which may be newer than the version looked up above
+        String eTag = ETags.forAccept(ETags.of(artist.get().getVersion()), accept);
+        if (ETags.matchesAny(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(artist.get());
     }
 
     /**
-     * GET /api/artists/{id}/tracks - Get tracks by artist ID
+     * GET /api/artists/{id}/tracks - Get tracks by artist ID.
+     * The ETag combines the artist version (bumped when its track set changes) with the genre
+     * snapshot version, since genre names are part of each track. A request with If-None-Match
+     * first looks up the version alone and gets a 304 on a match. Concurrent requests for the same
+     * artist share one load, JSON and binary alike (503 if it does not finish in time).
      */
     @GetMapping("/{id}/tracks")
-    public ResponseEntity<List<TrackDto>> getTracksByArtistId(@PathVariable Integer id) {
-        List<TrackDto> tracks = trackService.getTracksByArtistId(id);
-        return ResponseEntity.ok(tracks);
+    public ResponseEntity<List<TrackDto>> getTracksByArtistId(@PathVariable Integer id,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (ifNoneMatch != null) {
+            String eTag = tracksVersionTag(id).map(tag -> ETags.forAccept(tag, accept)).orElse(null);
+            if (eTag != null && ETags.matchesAny(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        ArtistTracks artistTracks;
+        try {
+            artistTracks = loadShared("artist-tracks", id, () -> {
+                // The version is read before the tracks: a concurrent change then yields a newer body
+                // under an older tag, which the next request corrects, never an older body under a newer tag
+                String versionTag = tracksVersionTag(id).orElse(null);
+                return new ArtistTracks(versionTag, trackService.getTracksByArtistId(id));
+            });
+        } catch (SingleFlightTimeoutException e) {
+            return serviceUnavailable();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (artistTracks.versionTag() != null) {
+            String eTag = ETags.forAccept(artistTracks.versionTag(), accept);
+            if (ETags.matchesAny(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            response.eTag(eTag);
+        }
+        return response.body(artistTracks.tracks());
     }
 
     /**
-     * PUT /api/artists/{id} - Update artist
+     * PUT /api/artists/{id} - Update artist.
+     * With If-Match the update is applied only if the artist is still at that version (412 otherwise).
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ArtistDto> updateArtist(@PathVariable Integer id, @RequestBody ArtistDto artistDto) {
+    public ResponseEntity<ArtistDto> updateArtist(@PathVariable Integer id, @RequestBody ArtistDto artistDto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
-            Optional<ArtistDto> updatedArtist = artistService.updateArtist(id, artistDto);
-            return updatedArtist.map(ResponseEntity::ok)
+            Optional<ArtistDto> updatedArtist = artistService.updateArtist(id, artistDto, ETags.parseVersion(ifMatch));
+            return updatedArtist.map(dto -> ResponseEntity.ok().eTag(ETags.forAccept(ETags.of(dto.getVersion()), accept)).body(dto))
                     .orElse(ResponseEntity.notFound().build());
+        } catch (VersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * PATCH /api/artists/{id} - Partial update as a JSON Merge Patch (RFC 7396) of name, description
+     * and photo; null removes a description or photo. Applied by a single UPDATE ... RETURNING that
+     * also returns the updated artist; a patch that changes nothing keeps the version and ETag. With
+     * If-Match the patch is applied only if the artist is still at that version (412 otherwise).
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ArtistDto> patchArtist(@PathVariable Integer id, @RequestBody JsonNode patch,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ArtistPatchDto artistPatch;
+        try {
+            artistPatch = ArtistPatchDto.fromMergePatch(patch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Optional<ArtistDto> patchedArtist = artistService.patchArtist(id, artistPatch, ETags.parseVersion(ifMatch));
+            return patchedArtist.map(dto -> ResponseEntity.ok().eTag(ETags.forAccept(ETags.of(dto.getVersion()), accept)).body(dto))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (VersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
+    private Optional<String> tracksVersionTag(Integer id) {
+        return artistService.getArtistVersion(id).map(v -> ETags.of(v, genreService.getSnapshot().getVersion()));
+    }
+
+    /**
+     * Shares the load with concurrent requests for the same key, except for a client that has just
+     * written: it loads on its own, so it never gets a result read before its write.
+     */
+    private <T> T loadShared(String name, Integer id, Supplier<T> loader) {
+        return ReadYourWrites.hasWritten() ? loader.get() : singleFlight.load(name, id, loader);
+    }
+
+    private static <T> ResponseEntity<T> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    private record ArtistTracks(String versionTag, List<TrackDto> tracks) {}
+
 }
\ No newline at end of file
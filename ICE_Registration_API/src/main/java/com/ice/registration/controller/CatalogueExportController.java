@@ -0,0 +1,31 @@
+package com.ice.registration.controller;
+
+import com.ice.registration.catalogue.CatalogueExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class CatalogueExportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private CatalogueExportService catalogueExportService;
+
+    /**
+     * GET /api/export - Stream every artist with its tracks and their genres, one JSON object per line.
+     * The body is written on the request thread as rows are read, inside one read-only transaction
+     * that holds a database connection (and, on virtual threads, a permit) until the last line.
+     */
+    @GetMapping(produces = NDJSON)
+    public void exportCatalogue(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        catalogueExportService.exportCatalogue(response.getOutputStream());
+    }
+}
@@ -0,0 +1,47 @@
+package com.ice.registration.controller;
+
+import com.ice.registration.catalogue.CatalogueFormat;
+import com.ice.registration.catalogue.CatalogueImportService;
+import com.ice.registration.catalogue.CatalogueKind;
+import com.ice.registration.dto.CatalogueImportResultDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/catalogue")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class CatalogueImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueImportController.class);
+
+    @Autowired
+    private CatalogueImportService catalogueImportService;
+
+    /**
+     * POST /api/catalogue/{kind} - Bulk import genres, artists, tracks or artist-tracks.
+     * The body is CSV with a header line (text/csv) or NDJSON (application/x-ndjson) and is
+     * streamed into the database as it arrives, so it is never held in memory.
+     */
+    @PostMapping("/{kind}")
+    public ResponseEntity<CatalogueImportResultDto> importCatalogue(@PathVariable String kind,
+                                                                    @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                    InputStream body) {
+        CatalogueKind catalogueKind;
+        CatalogueImportResultDto result;
+        try {
+            catalogueKind = CatalogueKind.fromName(kind);
+            result = catalogueImportService.importCatalogue(catalogueKind, CatalogueFormat.fromContentType(contentType), body);
+        } catch (Exception e) {
+            log.warn("Catalogue import of {} failed: {}", kind, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        catalogueImportService.refreshAfterImport(catalogueKind);
+        return ResponseEntity.ok(result);
+    }
+}
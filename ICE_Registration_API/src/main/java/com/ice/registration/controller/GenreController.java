@@ -2,7 +2,11 @@ package com.ice.registration.controller;
 
 import com.ice.registration.dto.GenreDto;
 import com.ice.registration.service.GenreService;
+import com.ice.registration.service.GenreSnapshot;
+import com.ice.registration.web.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -10,18 +14,22 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/genres")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", exposedHeaders = HttpHeaders.ETAG)
 public class GenreController {
     
     @Autowired
     private GenreService genreService;
 
     /**
-     * GET /api/genres - Get all genres
+     * GET /api/genres - Get all genres.
+     * The snapshot version is sent as the ETag, one per representation; a matching If-None-Match gets a 304 without a body.
      */
     @GetMapping
-    public ResponseEntity<List<GenreDto>> getAllGenres() {
-        List<GenreDto> genres = genreService.getAllGenres();
-        return ResponseEntity.ok(genres);
+    public ResponseEntity<List<GenreDto>> getAllGenres(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        GenreSnapshot snapshot = genreService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(ETags.forAccept(ETags.of(snapshot.getVersion()), accept))
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getGenres());
     }
 }
\ No newline at end of file
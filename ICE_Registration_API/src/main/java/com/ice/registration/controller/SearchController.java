@@ -0,0 +1,27 @@
+package com.ice.registration.controller;
+
+import com.ice.registration.dto.SearchResultDto;
+import com.ice.registration.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * GET /api/search?q={text}&limit={n} - Search artists and tracks.
+     * Every word must match an artist name or description, or a track title. Words also match as
+     * prefixes, so this serves typeahead as well. Answered from memory.
+     */
+    @GetMapping
+    public ResponseEntity<SearchResultDto> search(@RequestParam("q") String query,
+                                                  @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ice.registration.controller;
 
+import com.ice.registration.dto.TrackBatchResultDto;
 import com.ice.registration.dto.TrackDto;
 import com.ice.registration.service.TrackService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +11,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/tracks")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 public class TrackController {
     
     @Autowired
@@ -28,4 +29,17 @@ public class TrackController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * POST /api/tracks/batch - Create many tracks in one transaction, reporting rejected items by index
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TrackBatchResultDto> createTracks(@RequestBody List<TrackDto> trackDtos) {
+        try {
+            TrackBatchResultDto result = trackService.createTracks(trackDtos);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.ice.registration.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Wraps the DataSource in a {@link ConnectionPermitDataSource} when requests run on virtual
+ * threads, with {@code ice.db-permits.max} permits (the connection pool size by default) and
+ * {@code ice.db-permits.acquire-timeout}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionPermitConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermitDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    int maxPermits = environment.getProperty("ice.db-permits.max", Integer.class,
+                            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                    Duration acquireTimeout = environment.getProperty("ice.db-permits.acquire-timeout", Duration.class,
+                            Duration.ofSeconds(2));
+                    return new ConnectionPermitDataSource(dataSource, maxPermits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) throws SQLException {
+        ConnectionPermitDataSource permits = dataSource.unwrap(ConnectionPermitDataSource.class);
+        return registry -> {
+            Gauge.builder("ice.db.permits.available", permits, ConnectionPermitDataSource::getAvailablePermits)
+                    .description("Free permits in front of the connection pool")
+                    .register(registry);
+            Gauge.builder("ice.db.permits.waiting", permits, ConnectionPermitDataSource::getQueueLength)
+                    .description("Callers waiting for a permit")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.ice.registration.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown by {@link ConnectionPermitDataSource} when no permit is free within the acquire timeout.
+ * It reaches the web layer as the cause of a data access or transaction exception and is
+ * answered with 503 Service Unavailable.
+ */
+public class ConnectionPermitTimeoutException extends SQLTransientConnectionException {
+
+    public ConnectionPermitTimeoutException(String message) {
+        super(message);
+    }
+}
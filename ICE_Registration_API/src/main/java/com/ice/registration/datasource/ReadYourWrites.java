@@ -0,0 +1,58 @@
+package com.ice.registration.datasource;
+
+/**
+ * Remembers that the current client has written recently, so its reads go to the primary
+ * instead of a replica that may not have replayed the write yet. A request is sticky once it
+ * runs a write transaction, or from the start when {@link ReadYourWritesFilter} finds the
+ * marker an earlier write left with the client.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    /**
+     * Starts a request; {@code onFirstWrite} runs when it first opens a write transaction.
+     */
+    static void begin(boolean writtenRecently, Runnable onFirstWrite) {
+        State state = new State(onFirstWrite);
+        state.sticky = writtenRecently;
+        CURRENT.set(state);
+    }
+
+    static void markWritten() {
+        State state = CURRENT.get();
+        if (state == null) {
+            state = new State(null);
+            CURRENT.set(state);
+        }
+        state.sticky = true;
+        if (!state.written) {
+            state.written = true;
+            if (state.onFirstWrite != null) {
+                state.onFirstWrite.run();
+            }
+        }
+    }
+
+    public static boolean hasWritten() {
+        State state = CURRENT.get();
+        return state != null && state.sticky;
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    private static final class State {
+
+        private final Runnable onFirstWrite;
+        private boolean sticky;
+        private boolean written;
+
+        State(Runnable onFirstWrite) {
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
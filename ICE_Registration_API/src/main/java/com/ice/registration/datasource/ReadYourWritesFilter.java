@@ -0,0 +1,70 @@
+package com.ice.registration.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Carries {@link ReadYourWrites} stickiness across a client's requests. A request that writes
+ * gets a cookie holding the time of the write, and the client's requests that bring it back
+ * within {@code window} read from the primary. The window is the longest a replica in rotation
+ * can be behind: {@code ice.datasource.max-lag} plus the health-check interval in which it
+ * may have fallen further behind unnoticed.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "ice-written-at";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // The cookie is added when the write transaction opens, before the response can be committed
+        ReadYourWrites.begin(writtenRecently(request), () -> response.addCookie(writtenAt()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.reset();
+        }
+    }
+
+    private boolean writtenRecently(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long writtenAt = Long.parseLong(cookie.getValue());
+                    return clock.millis() - writtenAt < window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie writtenAt() {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(clock.millis()));
+        cookie.setPath("/");
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        cookie.setHttpOnly(true);
+        cookie.setAttribute("SameSite", "Lax");
+        return cookie;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ice.registration.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Probes every replica on a fixed delay and takes it out of (or back into) read rotation.
+ * A replica is healthy when a connection can be validated and, if a lag query is configured,
+ * its replication lag is within {@code ice.datasource.max-lag}.
+ * Reported under {@code /actuator/health} as {@code replicas}; reads fall back to the
+ * primary when none is healthy, so the application itself stays UP.
+ */
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthIndicator.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties properties;
+    private final Map<String, String> lastStatus = new LinkedHashMap<>();
+
+    public ReplicaHealthIndicator(ReplicaRoutingDataSource routingDataSource, ReplicaDataSourceProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${ice.datasource.health-check-interval:PT5S}")
+    public synchronized void checkReplicas() {
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            String key = replica.getKey();
+            String status = probe(replica.getValue());
+            boolean healthy = status.equals("UP");
+            if (healthy != routingDataSource.isHealthy(key)) {
+                if (healthy) {
+                    log.info("Replica {} is back in read rotation", key);
+                } else {
+                    log.warn("Replica {} taken out of read rotation: {}", key, status);
+                }
+            }
+            routingDataSource.setHealthy(key, healthy);
+            lastStatus.put(key, status);
+        }
+    }
+
+    private String probe(DataSource dataSource) {
+        int timeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                return "DOWN: connection not valid";
+            }
+            if (properties.getLagQuery() == null || properties.getLagQuery().isBlank()) {
+                return "UP";
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                    if (lagSeconds * 1000 > properties.getMaxLag().toMillis()) {
+                        return "DOWN: lagging " + lagSeconds + "s";
+                    }
+                    return "UP";
+                }
+            }
+        } catch (SQLException e) {
+            return "DOWN: " + e.getMessage();
+        }
+    }
+
+    @Override
+    public synchronized Health health() {
+        return Health.up()
+                .withDetail("healthyReplicas", routingDataSource.healthyReplicaCount())
+                .withDetails(lastStatus)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ice.registration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else to the
+ * primary. Falls back to the primary when no replica is healthy, and after the current request
+ * has written (see {@link ReadYourWrites}).
+ *
+ * The routing decision reads the transaction's read-only flag, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the physical
+ * connection is then only fetched once the transaction has been set up.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writes;
+    private final Counter nonTransactional;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            replicas.put(key, replicaDataSources.get(i));
+            healthy.put(key, Boolean.TRUE);
+            targets.put(key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        writes = routingCounter(meterRegistry, PRIMARY, "write");
+        nonTransactional = routingCounter(meterRegistry, PRIMARY, "no-transaction");
+        replicaReads = routingCounter(meterRegistry, "replica", "read");
+        stickyReads = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+        fallbackReads = routingCounter(meterRegistry, PRIMARY, "no-healthy-replica");
+        Gauge.builder("ice.datasource.replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicaCount)
+                .description("Replicas currently eligible for reads")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.markWritten();
+                writes.increment();
+            } else {
+                nonTransactional.increment();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWrites.hasWritten()) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        String replica = nextHealthyReplica();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (isHealthy(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    boolean isHealthy(String replicaKey) {
+        return healthy.getOrDefault(replicaKey, Boolean.FALSE);
+    }
+
+    void setHealthy(String replicaKey, boolean isHealthy) {
+        healthy.put(replicaKey, isHealthy);
+    }
+
+    int healthyReplicaCount() {
+        return (int) healthy.values().stream().filter(Boolean::booleanValue).count();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("ice.datasource.routing")
+                .description("Connections handed out by the routing data source")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializer for {@link ArtistDto}, replacing Jackson's reflective bean serializer
+ * on the artist endpoints. Produces the same fields, in the same order, as the default;
+ * the version stays out of the body and is sent as the ETag.
+ */
+@JsonComponent
+public class ArtistDtoSerializer extends JsonSerializer<ArtistDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString PHOTO = new SerializedString("photo");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString TRACK_COUNT = new SerializedString("trackCount");
+
+    @Override
+    public void serialize(ArtistDto artist, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(artist, 5);
+        gen.writeFieldName(ID);
+        TrackDtoSerializer.writeNumber(gen, artist.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(artist.getName());
+        gen.writeFieldName(PHOTO);
+        gen.writeString(artist.getPhoto());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(artist.getDescription());
+        gen.writeFieldName(TRACK_COUNT);
+        gen.writeNumber(artist.getTrackCount());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The changes in a JSON Merge Patch (RFC 7396) of an artist. A member that is absent leaves the
+ * field as it is; description and photo can be set to null to remove them, the name cannot.
+ */
+public class ArtistPatchDto {
+
+    private String name;
+
+    private String description;
+
+    private boolean descriptionPresent;
+
+    private String photo;
+
+    private boolean photoPresent;
+
+    // Default constructor
+    public ArtistPatchDto() {}
+
+    /**
+     * Reads a merge patch document, rejecting members that are not patchable or not strings
+     * with an IllegalArgumentException.
+     */
+    public static ArtistPatchDto fromMergePatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+        ArtistPatchDto artistPatch = new ArtistPatchDto();
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            JsonNode value = member.getValue();
+            if (!value.isNull() && !value.isTextual()) {
+                throw new IllegalArgumentException(member.getKey() + " must be a string or null");
+            }
+            String text = value.isNull() ? null : value.asText();
+            switch (member.getKey()) {
+                case "name" -> {
+                    if (text == null || text.trim().isEmpty()) {
+                        throw new IllegalArgumentException("An artist's name cannot be removed");
+                    }
+                    artistPatch.setName(text.trim());
+                }
+                case "description" -> {
+                    artistPatch.setDescription(text);
+                    artistPatch.setDescriptionPresent(true);
+                }
+                case "photo" -> {
+                    artistPatch.setPhoto(text);
+                    artistPatch.setPhotoPresent(true);
+                }
+                default -> throw new IllegalArgumentException(member.getKey() + " cannot be patched");
+            }
+        }
+        return artistPatch;
+    }
+
+    /**
+     * True for a patch without members, which changes nothing.
+     */
+    public boolean isEmpty() {
+        return name == null && !descriptionPresent && !photoPresent;
+    }
+
+    // Getters and setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public boolean isDescriptionPresent() {
+        return descriptionPresent;
+    }
+
+    public void setDescriptionPresent(boolean descriptionPresent) {
+        this.descriptionPresent = descriptionPresent;
+    }
+
+    public String getPhoto() {
+        return photo;
+    }
+
+    public void setPhoto(String photo) {
+        this.photo = photo;
+    }
+
+    public boolean isPhotoPresent() {
+        return photoPresent;
+    }
+
+    public void setPhotoPresent(boolean photoPresent) {
+        this.photoPresent = photoPresent;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ice.registration.dto;
+
+public class ArtistSearchHitDto {
+
+    private Integer id;
+    private String name;
+
+    public ArtistSearchHitDto() {}
+
+    public ArtistSearchHitDto(Integer id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    // Getters and setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,36 @@
+package com.ice.registration.dto;
+
+/**
+ * Outcome of importing one catalogue file. {@code rowsMerged} counts the rows inserted or
+ * changed (links added, for artist-tracks); staged rows that were invalid or unchanged are
+ * the difference to {@code rowsRead}.
+ */
+public class CatalogueImportResultDto {
+
+    private String kind;
+    private long rowsRead;
+    private long rowsMerged;
+    private long elapsedMillis;
+
+    public CatalogueImportResultDto() {}
+
+    public CatalogueImportResultDto(String kind, long rowsRead, long rowsMerged, long elapsedMillis) {
+        this.kind = kind;
+        this.rowsRead = rowsRead;
+        this.rowsMerged = rowsMerged;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters and setters
+    public String getKind() { return kind; }
+    public void setKind(String kind) { this.kind = kind; }
+
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getRowsMerged() { return rowsMerged; }
+    public void setRowsMerged(long rowsMerged) { this.rowsMerged = rowsMerged; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,26 @@
+package com.ice.registration.dto;
+
+import java.util.List;
+
+/**
+ * Artists and tracks matching a search, each list ordered best match first.
+ */
+public class SearchResultDto {
+
+    private List<ArtistSearchHitDto> artists;
+    private List<TrackSearchHitDto> tracks;
+
+    public SearchResultDto() {}
+
+    public SearchResultDto(List<ArtistSearchHitDto> artists, List<TrackSearchHitDto> tracks) {
+        this.artists = artists;
+        this.tracks = tracks;
+    }
+
+    // Getters and setters
+    public List<ArtistSearchHitDto> getArtists() { return artists; }
+    public void setArtists(List<ArtistSearchHitDto> artists) { this.artists = artists; }
+
+    public List<TrackSearchHitDto> getTracks() { return tracks; }
+    public void setTracks(List<TrackSearchHitDto> tracks) { this.tracks = tracks; }
+}
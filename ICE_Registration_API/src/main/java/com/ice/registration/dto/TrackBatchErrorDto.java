@@ -0,0 +1,21 @@
+package com.ice.registration.dto;
+
+public class TrackBatchErrorDto {
+
+    private int index;
+    private String message;
+
+    public TrackBatchErrorDto() {}
+
+    public TrackBatchErrorDto(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    // Getters and setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
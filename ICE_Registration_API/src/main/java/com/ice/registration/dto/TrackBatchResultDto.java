@@ -0,0 +1,27 @@
+package com.ice.registration.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch registration. Valid items are created and returned in request order;
+ * each rejected item is reported by its index in the request with the reason.
+ */
+public class TrackBatchResultDto {
+
+    private List<TrackDto> created;
+    private List<TrackBatchErrorDto> errors;
+
+    public TrackBatchResultDto() {}
+
+    public TrackBatchResultDto(List<TrackDto> created, List<TrackBatchErrorDto> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    // Getters and setters
+    public List<TrackDto> getCreated() { return created; }
+    public void setCreated(List<TrackDto> created) { this.created = created; }
+
+    public List<TrackBatchErrorDto> getErrors() { return errors; }
+    public void setErrors(List<TrackBatchErrorDto> errors) { this.errors = errors; }
+}
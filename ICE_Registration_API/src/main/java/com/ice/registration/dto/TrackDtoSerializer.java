@@ -0,0 +1,63 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written serializer for {@link TrackDto}, replacing Jackson's reflective bean serializer
+ * on the track list endpoints. Produces the same fields, in the same order, as the default.
+ */
+@JsonComponent
+public class TrackDtoSerializer extends JsonSerializer<TrackDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString GENRE = new SerializedString("genre");
+    private static final SerializedString GENRE_ID = new SerializedString("genreId");
+    private static final SerializedString LENGTH_SECONDS = new SerializedString("lengthSeconds");
+    private static final SerializedString FORMATTED_LENGTH = new SerializedString("formattedLength");
+    private static final SerializedString ARTIST_IDS = new SerializedString("artistIds");
+
+    @Override
+    public void serialize(TrackDto track, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(track, 7);
+        gen.writeFieldName(ID);
+        writeNumber(gen, track.getId());
+        gen.writeFieldName(TITLE);
+        gen.writeString(track.getTitle());
+        gen.writeFieldName(GENRE);
+        gen.writeString(track.getGenre());
+        gen.writeFieldName(GENRE_ID);
+        writeNumber(gen, track.getGenreId());
+        gen.writeFieldName(LENGTH_SECONDS);
+        writeNumber(gen, track.getLengthSeconds());
+        gen.writeFieldName(FORMATTED_LENGTH);
+        gen.writeString(track.getFormattedLength());
+        gen.writeFieldName(ARTIST_IDS);
+        List<Integer> artistIds = track.getArtistIds();
+        if (artistIds == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(artistIds, artistIds.size());
+            for (Integer artistId : artistIds) {
+                writeNumber(gen, artistId);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    static void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+}
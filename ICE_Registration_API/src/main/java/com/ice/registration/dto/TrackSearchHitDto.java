@@ -0,0 +1,28 @@
+package com.ice.registration.dto;
+
+import java.util.List;
+
+public class TrackSearchHitDto {
+
+    private Integer id;
+    private String title;
+    private List<Integer> artistIds;
+
+    public TrackSearchHitDto() {}
+
+    public TrackSearchHitDto(Integer id, String title, List<Integer> artistIds) {
+        this.id = id;
+        this.title = title;
+        this.artistIds = artistIds;
+    }
+
+    // Getters and setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public List<Integer> getArtistIds() { return artistIds; }
+    public void setArtistIds(List<Integer> artistIds) { this.artistIds = artistIds; }
+}
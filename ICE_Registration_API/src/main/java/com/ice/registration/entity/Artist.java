@@ -29,6 +29,15 @@ public class Artist {
         inverseJoinColumns = @JoinColumn(name = "track_id")
     )
     private Set<Track> tracks = new HashSet<>(); //;
+
+    // Denormalized size of tracks, maintained by TrackService so reads never initialize the collection
+    @Column(name = "track_count", nullable = false)
+    private int trackCount;
+
+    // Bumped on every change to the artist row or its track set; exposed as the ETag
+    @Version
+    @Column(nullable = false)
+    private long version;
     
     public Artist() {}
     
@@ -79,7 +88,19 @@ public class Artist {
     }
     
     public int getTrackCount() {
-        return tracks != null ? tracks.size() : 0;
+        return trackCount;
+    }
+    
+    public void setTrackCount(int trackCount) {
+        this.trackCount = trackCount;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
     }
 
 }
\ No newline at end of file
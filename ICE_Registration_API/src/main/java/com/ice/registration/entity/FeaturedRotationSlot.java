@@ -0,0 +1,37 @@
+package com.ice.registration.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "featured_rotation")
+public class FeaturedRotationSlot {
+
+    @Id
+    private Integer slot;
+
+    @Column(name = "artist_id", nullable = false, unique = true)
+    private Integer artistId;
+
+    public FeaturedRotationSlot() {}
+
+    public FeaturedRotationSlot(Integer slot, Integer artistId) {
+        this.slot = slot;
+        this.artistId = artistId;
+    }
+
+    public Integer getSlot() {
+        return slot;
+    }
+
+    public void setSlot(Integer slot) {
+        this.slot = slot;
+    }
+
+    public Integer getArtistId() {
+        return artistId;
+    }
+
+    public void setArtistId(Integer artistId) {
+        this.artistId = artistId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ice.registration.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "featured_rotation_state")
+public class FeaturedRotationState {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "cycle_start_day", nullable = false)
+    private LocalDate cycleStartDay;
+
+    public FeaturedRotationState() {}
+
+    public FeaturedRotationState(LocalDate cycleStartDay) {
+        this.id = SINGLETON_ID;
+        this.cycleStartDay = cycleStartDay;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public LocalDate getCycleStartDay() {
+        return cycleStartDay;
+    }
+
+    public void setCycleStartDay(LocalDate cycleStartDay) {
+        this.cycleStartDay = cycleStartDay;
+    }
+}
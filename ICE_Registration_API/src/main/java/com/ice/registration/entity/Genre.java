@@ -1,10 +1,17 @@
 package com.ice.registration.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import java.util.Set;
 
 @Entity
 @Table(name = "genre")
+// Genres are only ever written by the catalogue import, which empties the cache afterwards
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "genre")
 public class Genre {
     
     @Id
@@ -1,10 +1,15 @@
 package com.ice.registration.entity;
 
+import com.ice.registration.util.DurationFormat;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.Set;
 
 @Entity
 @Table(name = "track")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "track")
 public class Track {
     
     @Id
@@ -75,8 +80,6 @@ public class Track {
     // Helper method to format length as MM:SS
     public String getFormattedLength() {
         if (lengthSeconds == null) return "0:00";
-        int minutes = lengthSeconds / 60;
-        int seconds = lengthSeconds % 60;
-        return String.format("%d:%02d", minutes, seconds);
+        return DurationFormat.minutesSeconds(lengthSeconds);
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.ice.registration.metrics;
+
+/**
+ * Per-thread counts of the SQL statements executed (through Hibernate or JdbcTemplate) and
+ * the entities loaded by Hibernate while a request is being handled. Counting only happens between {@link #start()}
+ * and {@link #stop()}, so work on scheduler threads is never accumulated.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    public static void start() {
+        CURRENT.set(new Counts());
+    }
+
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    public static Counts current() {
+        Counts counts = CURRENT.get();
+        return counts != null ? counts : new Counts();
+    }
+
+    static void statementExecuted() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entitiesLoaded++;
+        }
+    }
+
+    public static final class Counts {
+
+        private int statements;
+        private int entitiesLoaded;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntitiesLoaded() {
+            return entitiesLoaded;
+        }
+    }
+}
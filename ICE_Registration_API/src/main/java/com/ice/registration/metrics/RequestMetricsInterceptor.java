@@ -0,0 +1,60 @@
+package com.ice.registration.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records statements executed (counted on the DataSource, so JdbcTemplate statements are
+ * included) and entities loaded per request, tagged like
+ * {@code http.server.requests} (method and URI template) so the two can be
+ * lined up per endpoint. The counts are also left on the request under
+ * {@link #COUNTS_ATTRIBUTE} for tests that assert query budgets.
+ */
+@Component
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    static final String STATEMENTS = "ice.request.statements";
+    static final String ENTITIES_LOADED = "ice.request.entities.loaded";
+
+    public static final String COUNTS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".counts";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        QueryCounter.Counts counts = QueryCounter.stop();
+        request.setAttribute(COUNTS_ATTRIBUTE, counts);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        summary(STATEMENTS, "statements", request.getMethod(), uri).record(counts.getStatements());
+        summary(ENTITIES_LOADED, "entities", request.getMethod(), uri).record(counts.getEntitiesLoaded());
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,31 @@
 package com.ice.registration.repository;
 
+import com.ice.registration.dto.ArtistDto;
 import com.ice.registration.entity.Artist;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ArtistRepository extends JpaRepository<Artist, Integer> {
-    
-    @Query("SELECT a FROM Artist a LEFT JOIN FETCH a.tracks")
-    List<Artist> findAllWithTracks();
+public interface ArtistRepository extends JpaRepository<Artist, Integer>, ArtistWriteRepository {
+
+    // Keyset page: seeks on the primary key, so cost does not grow with the offset
+    @Query("SELECT new com.ice.registration.dto.ArtistDto(a.id, a.name, a.picture, a.description, a.trackCount, a.version) " +
+           "FROM Artist a WHERE a.id > :after ORDER BY a.id")
+    List<ArtistDto> findPageAfter(@Param("after") Integer after, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Artist a")
+    int findMaxId();
+
+    @Query("SELECT new com.ice.registration.dto.ArtistDto(a.id, a.name, a.picture, a.description, a.trackCount, a.version) " +
+           "FROM Artist a WHERE a.id = :id")
+    Optional<ArtistDto> findDtoById(@Param("id") Integer id);
 
-    @Query("SELECT a.id FROM Artist a ORDER BY a.id")
-    List<Integer> findAllIds();
-}
\ No newline at end of file
+    @Query("SELECT a.version FROM Artist a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+}
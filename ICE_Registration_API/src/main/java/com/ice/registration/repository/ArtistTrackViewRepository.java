@@ -0,0 +1,83 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.dto.TrackDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The artist_track_view read model: one pre-joined row per artist and track, with the genre
+ * name and formatted length, so an artist's track list is a single index range scan.
+ *
+ * The view is written in the same transaction as its sources. Writers call the method for the
+ * change they made, and the catalogue import maintains it in its merge statements. Rows are
+ * always derived from the source tables by {@link #projection(String)}, so an incremental change
+ * and a full {@link #rebuild()} produce the same rows.
+ */
+@Repository
+public class ArtistTrackViewRepository {
+
+    private static final String INSERT = "INSERT INTO artist_track_view " +
+            "(artist_id, track_id, title, genre, length_seconds, formatted_length) ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * SQL for M:SS, as {@link com.ice.registration.util.DurationFormat}, from a nullable,
+     * positive length in seconds (0:00 when there is none).
+     */
+    public static String formattedLength(String lengthSeconds) {
+        return "CASE WHEN " + lengthSeconds + " IS NULL THEN '0:00' ELSE CAST(" + lengthSeconds + " / 60 AS VARCHAR) || ':' || " +
+                "LPAD(CAST(MOD(" + lengthSeconds + ", 60) AS VARCHAR), 2, '0') END";
+    }
+
+    // View rows for the artist_track rows matching the condition, which may refer to at, t and g
+    private static String projection(String condition) {
+        return "SELECT at.artist_id, at.track_id, t.title, g.description, t.length_seconds, " +
+                formattedLength("t.length_seconds") + " " +
+                "FROM artist_track at " +
+                "JOIN track t ON t.id = at.track_id " +
+                "JOIN genre g ON g.id = t.genre_id" +
+                (condition != null ? " WHERE " + condition : "");
+    }
+
+    // Ordered by track id, as the track list has always been
+    public List<TrackDto> findByArtistId(Integer artistId) {
+        return jdbcTemplate.query(
+                "SELECT track_id, title, genre, length_seconds, formatted_length FROM artist_track_view " +
+                "WHERE artist_id = ? ORDER BY track_id",
+                (rs, rowNum) -> new TrackDto(rs.getInt(1), rs.getString(2), rs.getString(3),
+                        rs.getObject(4, Integer.class), rs.getString(5)),
+                artistId);
+    }
+
+    // For tracks just created and linked to their artists
+    public int insertForTracks(Collection<Integer> trackIds) {
+        if (trackIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT + projection("at.track_id = ANY (?)"));
+            ps.setArray(1, con.createArrayOf("integer", trackIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Replaces every row with one derived from the source tables, returning the number of rows
+     * inserted. Readers keep seeing the old rows until the transaction commits.
+     *
+     * Tracks created while the rebuild runs may commit their rows between the DELETE and the
+     * INSERT, and the INSERT then derives the same rows from their links. Those rows are left
+     * as they are rather than failing the rebuild on the primary key.
+     */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM artist_track_view");
+        return jdbcTemplate.update(INSERT + projection(null) + " ON CONFLICT DO NOTHING");
+    }
+}
@@ -0,0 +1,41 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPatchDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Artist writes that touch rows without loading them. They are issued through JDBC rather than
+ * as {@code @Modifying} queries, because Hibernate answers a bulk HQL or native statement by
+ * clearing whole second-level cache regions, including the track and genre regions these writes
+ * never touch. Artists are not cached, so nothing needs evicting afterwards.
+ */
+public interface ArtistWriteRepository {
+
+    /**
+     * Applies the non-null fields only if the row is still at {@code expectedVersion}, in one
+     * statement. Returns 0 when the artist does not exist or has moved on to another version.
+     */
+    int updateIfVersionMatches(Integer id, String name, String description, String picture, long expectedVersion);
+
+    /**
+     * Applies a merge patch in one UPDATE ... RETURNING statement and returns the updated artist.
+     * With an {@code expectedVersion} only if the artist is still at that version. Empty when no
+     * row was updated, which includes a patch that would not change any value.
+     */
+    Optional<ArtistDto> patch(Integer id, ArtistPatchDto patch, Long expectedVersion);
+
+    // Writes the join rows directly so that linking a track never loads the artists' tracks collections
+    int addTrack(Collection<Integer> artistIds, Integer trackId);
+
+    int incrementTrackCount(Collection<Integer> ids);
+
+    /**
+     * Recomputes track_count from artist_track for artists with afterId < id <= toId,
+     * touching only rows that have drifted. Returns the ids of the rows corrected.
+     */
+    List<Integer> reconcileTrackCounts(int afterId, int toId);
+}
@@ -0,0 +1,87 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPatchDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link ArtistWriteRepository}, mixed into {@link ArtistRepository} by
+ * Spring Data. Id lists are bound as a single array parameter, as in {@link TrackBatchRepository}.
+ */
+class ArtistWriteRepositoryImpl implements ArtistWriteRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateIfVersionMatches(Integer id, String name, String description, String picture, long expectedVersion) {
+        return jdbcTemplate.update(
+                "UPDATE artist SET name = COALESCE(?, name), description = COALESCE(?, description), " +
+                "picture = COALESCE(?, picture), version = version + 1 WHERE id = ? AND version = ?",
+                name, description, picture, id, expectedVersion);
+    }
+
+    @Override
+    public Optional<ArtistDto> patch(Integer id, ArtistPatchDto patch, Long expectedVersion) {
+        // Only a patch that changes a value updates the row, so setting the current values leaves
+        // the version, and with it the ETag, as it is
+        String sql = "UPDATE artist a SET name = COALESCE(p.name, a.name), " +
+                "description = CASE WHEN p.set_description THEN p.description ELSE a.description END, " +
+                "picture = CASE WHEN p.set_photo THEN p.photo ELSE a.picture END, version = a.version + 1 " +
+                "FROM (VALUES (CAST(? AS VARCHAR), CAST(? AS BOOLEAN), CAST(? AS TEXT), CAST(? AS BOOLEAN), CAST(? AS TEXT))) " +
+                "AS p (name, set_description, description, set_photo, photo) " +
+                "WHERE a.id = ?" + (expectedVersion != null ? " AND a.version = ?" : "") + " " +
+                "AND (COALESCE(p.name, a.name) IS DISTINCT FROM a.name " +
+                "OR (p.set_description AND p.description IS DISTINCT FROM a.description) " +
+                "OR (p.set_photo AND p.photo IS DISTINCT FROM a.picture)) " +
+                "RETURNING a.id, a.name, a.picture, a.description, a.track_count, a.version";
+        Object[] args = expectedVersion != null
+                ? new Object[]{patch.getName(), patch.isDescriptionPresent(), patch.getDescription(),
+                        patch.isPhotoPresent(), patch.getPhoto(), id, expectedVersion}
+                : new Object[]{patch.getName(), patch.isDescriptionPresent(), patch.getDescription(),
+                        patch.isPhotoPresent(), patch.getPhoto(), id};
+        List<ArtistDto> updated = jdbcTemplate.query(sql,
+                (rs, rowNum) -> new ArtistDto(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getInt(5), rs.getLong(6)),
+                args);
+        return updated.stream().findFirst();
+    }
+
+    @Override
+    public int addTrack(Collection<Integer> artistIds, Integer trackId) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO artist_track (artist_id, track_id) SELECT a.id, ? FROM artist a WHERE a.id = ANY (?)");
+            ps.setInt(1, trackId);
+            ps.setArray(2, con.createArrayOf("integer", artistIds.toArray()));
+            return ps;
+        });
+    }
+
+    @Override
+    public int incrementTrackCount(Collection<Integer> ids) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "UPDATE artist SET track_count = track_count + 1, version = version + 1 WHERE id = ANY (?)");
+            ps.setArray(1, con.createArrayOf("integer", ids.toArray()));
+            return ps;
+        });
+    }
+
+    @Override
+    public List<Integer> reconcileTrackCounts(int afterId, int toId) {
+        return jdbcTemplate.queryForList(
+                "UPDATE artist a SET track_count = c.actual, version = a.version + 1 " +
+                "FROM (SELECT a2.id, COUNT(at.track_id) AS actual " +
+                "      FROM artist a2 LEFT JOIN artist_track at ON at.artist_id = a2.id " +
+                "      WHERE a2.id > ? AND a2.id <= ? GROUP BY a2.id) c " +
+                "WHERE a.id = c.id AND a.track_count <> c.actual RETURNING a.id",
+                Integer.class, afterId, toId);
+    }
+}
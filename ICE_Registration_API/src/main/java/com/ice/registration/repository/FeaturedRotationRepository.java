@@ -0,0 +1,47 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.entity.FeaturedRotationSlot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FeaturedRotationRepository extends JpaRepository<FeaturedRotationSlot, Integer> {
+
+    Optional<FeaturedRotationSlot> findFirstBySlotGreaterThanEqualOrderBySlotAsc(int slot);
+
+    @Query("SELECT COALESCE(MAX(r.slot), -1) FROM FeaturedRotationSlot r")
+    int findLastSlot();
+
+    // The highest artist id in the rotation; artists created since have higher ids
+    @Query("SELECT COALESCE(MAX(r.artistId), 0) FROM FeaturedRotationSlot r")
+    int findLastEnrolledArtistId();
+
+    // Appends artists with ids above afterId after the last slot, in shuffled order: an index range
+    // on artist, empty when nobody was created since. The table it writes is declared, or Hibernate
+    // would empty every second-level cache region after it
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "featured_rotation"))
+    @Query(value = "INSERT INTO featured_rotation (slot, artist_id) " +
+                   "SELECT (SELECT COALESCE(MAX(slot), -1) FROM featured_rotation) + ROW_NUMBER() OVER (ORDER BY random()), a.id " +
+                   "FROM artist a " +
+                   "WHERE a.id > :afterId", nativeQuery = true)
+    int enrollNewArtists(@Param("afterId") int afterId);
+
+    // Appends every artist that is not yet in the rotation, which also finds one whose insert
+    // committed after an artist with a higher id was enrolled. Reads the whole artist table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "featured_rotation"))
+    @Query(value = "INSERT INTO featured_rotation (slot, artist_id) " +
+                   "SELECT (SELECT COALESCE(MAX(slot), -1) FROM featured_rotation) + ROW_NUMBER() OVER (ORDER BY random()), a.id " +
+                   "FROM artist a " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM featured_rotation r WHERE r.artist_id = a.id)", nativeQuery = true)
+    int enrollMissedArtists();
+}
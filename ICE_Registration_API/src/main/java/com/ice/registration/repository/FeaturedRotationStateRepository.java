@@ -0,0 +1,19 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.entity.FeaturedRotationState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FeaturedRotationStateRepository extends JpaRepository<FeaturedRotationState, Integer> {
+
+    // Row lock serializes enrollment and cycle rollover across application instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FeaturedRotationState s WHERE s.id = " + FeaturedRotationState.SINGLETON_ID)
+    Optional<FeaturedRotationState> findForUpdate();
+}
@@ -0,0 +1,64 @@
+package com.ice.registration.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-table reads for building the search index. Rows are streamed with a fetch size (which the
+ * PostgreSQL driver only honours inside a transaction) instead of being materialized as entities.
+ */
+@Repository
+public class SearchIndexRepository {
+
+    public static final int FETCH_SIZE = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns id to {name, description} for every artist.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, String[]> findArtistTexts() {
+        Map<Integer, String[]> artists = new HashMap<>();
+        jdbcTemplate.query(con -> streaming(con.prepareStatement("SELECT id, name, description FROM artist")),
+                rs -> {
+                    artists.put(rs.getInt(1), new String[] {rs.getString(2), rs.getString(3)});
+                });
+        return artists;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Integer, String> findTrackTitles() {
+        Map<Integer, String> titles = new HashMap<>();
+        jdbcTemplate.query(con -> streaming(con.prepareStatement("SELECT id, title FROM track")),
+                rs -> {
+                    titles.put(rs.getInt(1), rs.getString(2));
+                });
+        return titles;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Integer, List<Integer>> findArtistIdsByTrack() {
+        Map<Integer, List<Integer>> artistIds = new HashMap<>();
+        jdbcTemplate.query(con -> streaming(con.prepareStatement("SELECT track_id, artist_id FROM artist_track")),
+                rs -> {
+                    artistIds.computeIfAbsent(rs.getInt(1), trackId -> new ArrayList<>(1)).add(rs.getInt(2));
+                });
+        return artistIds;
+    }
+
+    private static PreparedStatement streaming(PreparedStatement ps) throws SQLException {
+        ps.setFetchSize(FETCH_SIZE);
+        return ps;
+    }
+}
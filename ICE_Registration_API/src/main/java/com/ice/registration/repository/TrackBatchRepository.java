@@ -0,0 +1,74 @@
+package com.ice.registration.repository;
+
+import com.ice.registration.entity.Track;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+
+/**
+ * Set-based JDBC writes for bulk track registration.
+ *
+ * Track and Artist use IDENTITY keys, which stops Hibernate from batching inserts. Here track
+ * ids are reserved from the serial sequence in one round trip up front, so track and
+ * artist_track rows can be sent as plain JDBC batches (rewritten into multi-row inserts by the
+ * driver's reWriteBatchedInserts option).
+ */
+@Repository
+public class TrackBatchRepository {
+
+    public static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public List<Integer> allocateTrackIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('track', 'id'))::int FROM generate_series(1, ?)",
+                Integer.class, count);
+    }
+
+    // A single array parameter instead of an IN list keeps this one statement for any number of ids
+    public Set<Integer> findExistingArtistIds(Collection<Integer> artistIds) {
+        Set<Integer> existing = new HashSet<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT id FROM artist WHERE id = ANY (?)");
+            ps.setArray(1, con.createArrayOf("integer", artistIds.toArray()));
+            return ps;
+        }, rs -> {
+            existing.add(rs.getInt(1));
+        });
+        return existing;
+    }
+
+    public void insertTracks(List<Track> tracks) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO track (id, title, genre_id, length_seconds) VALUES (?, ?, ?, ?)",
+                tracks, BATCH_SIZE, (ps, track) -> {
+                    ps.setInt(1, track.getId());
+                    ps.setString(2, track.getTitle());
+                    ps.setObject(3, track.getGenre() != null ? track.getGenre().getId() : null);
+                    ps.setObject(4, track.getLengthSeconds());
+                });
+    }
+
+    public void insertArtistTracks(List<int[]> artistTrackLinks) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO artist_track (artist_id, track_id) VALUES (?, ?)",
+                artistTrackLinks, BATCH_SIZE, (ps, link) -> {
+                    ps.setInt(1, link[0]);
+                    ps.setInt(2, link[1]);
+                });
+    }
+
+    public void incrementTrackCounts(Map<Integer, Integer> addedTracksByArtist) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE artist SET track_count = track_count + ?, version = version + 1 WHERE id = ?",
+                addedTracksByArtist.entrySet(), BATCH_SIZE, (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setInt(2, entry.getKey());
+                });
+    }
+}
@@ -17,7 +17,4 @@ public interface TrackRepository extends JpaRepository<Track, Integer> {
     
     @Query("SELECT t FROM Track t JOIN FETCH t.genre WHERE t.id = :id")
     Optional<Track> findByIdWithGenre(@Param("id") Integer id);
-    
-    @Query("SELECT t FROM Track t JOIN FETCH t.genre JOIN t.artists a WHERE a.id = :artistId")
-    List<Track> findByArtistIdWithGenre(@Param("artistId") Integer artistId);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.ice.registration.service;
+
+import com.ice.registration.entity.FeaturedRotationSlot;
+import com.ice.registration.entity.FeaturedRotationState;
+import com.ice.registration.repository.FeaturedRotationRepository;
+import com.ice.registration.repository.FeaturedRotationStateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Fair round-robin rotation for Artist of the Day.
+ *
+ * Every artist holds one slot in a persisted, shuffled permutation. Day d of a cycle
+ * features slot d, so with n artists each one is featured exactly once every n days.
+ * Artists added since the last lookup are appended after the last slot, which puts
+ * them at the end of the current cycle without reordering anyone already enrolled.
+ * A lookup only looks at artist ids above the highest enrolled one; the full scan for
+ * artists that range missed runs once per cycle, before it starts over.
+ */
+@Service
+public class ArtistRotationService {
+
+    @Autowired
+    private FeaturedRotationRepository rotationRepository;
+
+    @Autowired
+    private FeaturedRotationStateRepository stateRepository;
+
+    /**
+     * Returns the id of the artist featured on {@code day}, enrolling new artists and
+     * starting a new cycle when the current one has run past the last slot.
+     */
+    @Transactional
+    public Integer getFeaturedArtistId(LocalDate day) {
+        FeaturedRotationState state = stateRepository.findForUpdate()
+                .orElseGet(() -> new FeaturedRotationState(day));
+
+        rotationRepository.enrollNewArtists(rotationRepository.findLastEnrolledArtistId());
+        int cycleLength = rotationRepository.findLastSlot() + 1;
+
+        long offset = day.toEpochDay() - state.getCycleStartDay().toEpochDay();
+        if ((offset < 0 || offset >= cycleLength) && rotationRepository.enrollMissedArtists() > 0) {
+            // Artists enrolled late extend the cycle like new ones
+            cycleLength = rotationRepository.findLastSlot() + 1;
+        }
+        if (cycleLength == 0) {
+            throw new RuntimeException("No artists available");
+        }
+        if (offset < 0 || offset >= cycleLength) {
+            // Cycle complete (or the clock moved back): keep the same permutation and
+            // realign the cycle start so that today lands on the slot it would have anyway
+            offset = Math.floorMod(offset, cycleLength);
+            state.setCycleStartDay(day.minusDays(offset));
+        }
+        stateRepository.save(state);
+
+        // Slots are contiguous unless an artist was deleted; skip over any such gap
+        Optional<FeaturedRotationSlot> slot = rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc((int) offset);
+        return slot.map(FeaturedRotationSlot::getArtistId)
+                .orElseThrow(() -> new RuntimeException("Featured artist not found"));
+    }
+}
@@ -1,38 +1,102 @@
 package com.ice.registration.service;
 
 import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPageDto;
+import com.ice.registration.dto.ArtistPatchDto;
 import com.ice.registration.entity.Artist;
 import com.ice.registration.repository.ArtistRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.stream.Collectors;
 
 @Service
 public class ArtistService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
     
     @Autowired
     private ArtistRepository artistRepository;
 
-    public List<ArtistDto> getAllArtists() {
-        List<Artist> artists = artistRepository.findAllWithTracks();
-        return artists.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private ArtistRotationService artistRotationService;
+
+    @Autowired
+    private SearchService searchService;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private volatile FeaturedArtist featuredArtist;
+
+    /**
+     * Returns the page of artists whose id is greater than {@code after}, ordered by id.
+     * One extra row is fetched to tell whether another page follows.
+     */
+    @Transactional(readOnly = true)
+    public ArtistPageDto getAllArtists(Integer after, Integer limit) {
+        int pageSize = limit == null || limit < 1 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        int cursor = after == null ? 0 : after;
+
+        List<ArtistDto> artists = artistRepository.findPageAfter(cursor, Limit.of(pageSize + 1));
+
+        Integer nextCursor = null;
+        if (artists.size() > pageSize) {
+            artists = new ArrayList<>(artists.subList(0, pageSize));
+            nextCursor = artists.get(pageSize - 1).getId();
+        }
+        return new ArtistPageDto(artists, nextCursor, pageSize);
     }
 
+    // Read from the database every time: ETags and If-Match checks must see writes made by other instances
+    @Transactional(readOnly = true)
     public Optional<ArtistDto> getArtistById(Integer id) {
-        return artistRepository.findById(id)
-                .map(this::convertToDto);
+        return artistRepository.findDtoById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> getArtistVersion(Integer id) {
+        return artistRepository.findVersionById(id);
     }
 
     @Transactional
     public Optional<ArtistDto> updateArtist(Integer id, ArtistDto artistDto) {
+        return updateArtist(id, artistDto, null);
+    }
+
+    /**
+     * Updates the provided, non-null fields. With an {@code expectedVersion} (from If-Match) the
+     * change is applied by a single conditional UPDATE instead of a read-modify-write, and a
+     * {@link VersionConflictException} is thrown if the artist has changed in the meantime.
+     */
+    @Transactional
+    public Optional<ArtistDto> updateArtist(Integer id, ArtistDto artistDto, Long expectedVersion) {
+        if (expectedVersion != null) {
+            String name = artistDto.getName() != null && !artistDto.getName().trim().isEmpty()
+                    ? artistDto.getName().trim() : null;
+            int updated = artistRepository.updateIfVersionMatches(
+                    id, name, artistDto.getDescription(), artistDto.getPhoto(), expectedVersion);
+            if (updated == 0) {
+                if (artistRepository.findVersionById(id).isEmpty()) {
+                    return Optional.empty();
+                }
+                throw new VersionConflictException("Artist " + id + " is no longer at version " + expectedVersion);
+            }
+            evictFeaturedArtist(id);
+            Optional<ArtistDto> reloaded = artistRepository.findDtoById(id);
+            reloaded.ifPresent(searchService::indexArtist);
+            return reloaded;
+        }
+
         return artistRepository.findById(id)
                 .map(artist -> {
                     // Update only the fields that are provided and not null
@@ -47,42 +111,124 @@ public class ArtistService {
                     }
 
                     Artist savedArtist = artistRepository.save(artist);
-                    return convertToDto(savedArtist);
+                    // Flush so the returned version (and ETag) reflects this update
+                    artistRepository.flush();
+                    evictFeaturedArtist(id);
+                    ArtistDto updated = convertToDto(savedArtist);
+                    searchService.indexArtist(updated);
+                    return updated;
                 });
     }
 
-    public ArtistDto getFeaturedArtist() {
-        // Get current date to ensure same artist for the whole day
-        LocalDate today = LocalDate.now();
+    /**
+     * Applies a merge patch with a single UPDATE ... RETURNING and returns the updated artist
+     * from that same statement. A patch that changes nothing (an empty one, or one that sets the
+     * current values) returns the artist as it is, at the same version. With an
+     * {@code expectedVersion} (from If-Match) a {@link VersionConflictException} is thrown if the
+     * artist has changed in the meantime.
+     */
+    @Transactional
+    public Optional<ArtistDto> patchArtist(Integer id, ArtistPatchDto patch, Long expectedVersion) {
+        Optional<ArtistDto> patched = patch.isEmpty() ? Optional.empty() : artistRepository.patch(id, patch, expectedVersion);
+        if (patched.isEmpty()) {
+            // Nothing updated: the artist is missing, at another version or already as patched
+            Optional<ArtistDto> current = artistRepository.findDtoById(id);
+            if (expectedVersion != null && current.isPresent() && current.get().getVersion() != expectedVersion) {
+                throw new VersionConflictException("Artist " + id + " is no longer at version " + expectedVersion);
+            }
+            return current;
+        }
+        evictFeaturedArtist(id);
+        searchService.indexArtist(patched.get());
+        return patched;
+    }
 
-        List<Integer> artistIds = artistRepository.findAllIds();
+    /**
+     * Returns the Artist of the Day. The DTO is cached for the current day, so steady-state
+     * requests do no database work; the first request after midnight (or the scheduled
+     * refresh) resolves the next artist from the rotation.
+     */
+    public ArtistDto getFeaturedArtist() {
+        LocalDate today = LocalDate.now(clock);
+        FeaturedArtist current = featuredArtist;
+        if (current != null && current.day().equals(today)) {
+            return current.artist();
+        }
 
-        if (artistIds.isEmpty()) {
-            throw new RuntimeException("No artists available");
+        synchronized (this) {
+            current = featuredArtist;
+            if (current == null || !current.day().equals(today)) {
+                Integer featuredArtistId = artistRotationService.getFeaturedArtistId(today);
+                ArtistDto artist = artistRepository.findDtoById(featuredArtistId)
+                        .orElseThrow(() -> new RuntimeException("Featured artist not found"));
+                current = new FeaturedArtist(today, artist);
+                featuredArtist = current;
+            }
+            return current.artist();
         }
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void refreshFeaturedArtist() {
+        getFeaturedArtist();
+    }
 
-        // Use date as seed for consistent daily rotation
-        long seed = today.toEpochDay();
-        Random random = new Random(seed);
+    /**
+     * Drops the cached Artist of the Day if it is the given artist, so the next request
+     * picks up a changed name, picture or track count. Inside a transaction the eviction
+     * waits for commit, otherwise a concurrent reload could cache the old row again.
+     */
+    public void evictFeaturedArtist(Integer artistId) {
+        evictAfterCommit(() -> evictCachedFeaturedArtist(artistId));
+    }
 
-        // Select random artist ID based on today's seed
-        int index = random.nextInt(artistIds.size());
-        Integer featuredArtistId = artistIds.get(index);
+    /**
+     * Drops the cached Artist of the Day whoever it is, for bulk writes such as catalogue
+     * imports that may have changed any artist or track count.
+     */
+    public void evictFeaturedArtist() {
+        evictAfterCommit(() -> featuredArtist = null);
+    }
 
-        // Fetch the full artist by ID
-        Artist featuredArtist = artistRepository.findById(featuredArtistId)
-                .orElseThrow(() -> new RuntimeException("Featured artist not found"));
+    private void evictAfterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
 
-        return convertToDto(featuredArtist);
+    private void evictCachedFeaturedArtist(Integer artistId) {
+        FeaturedArtist current = featuredArtist;
+        if (current != null && current.artist().getId().equals(artistId)) {
+            featuredArtist = null;
+        }
     }
 
-    private ArtistDto convertToDto(Artist artist) {
+    /**
+     * Recomputes track_count for artists with afterId < id <= toId and returns how many
+     * rows had drifted. Each call commits on its own so the repair job holds row locks briefly.
+     */
+    @Transactional
+    public int reconcileTrackCounts(int afterId, int toId) {
+        return artistRepository.reconcileTrackCounts(afterId, toId).size();
+    }
+
+    ArtistDto convertToDto(Artist artist) {
         return new ArtistDto(
                 artist.getId(),
                 artist.getName(),
                 artist.getPicture(),
                 artist.getDescription(),
-                artist.getTrackCount()
+                artist.getTrackCount(),
+                artist.getVersion()
         );
     }
+
+    private record FeaturedArtist(LocalDate day, ArtistDto artist) {}
 }
\ No newline at end of file
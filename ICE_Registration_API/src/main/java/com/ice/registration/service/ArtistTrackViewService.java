@@ -0,0 +1,29 @@
+package com.ice.registration.service;
+
+import com.ice.registration.repository.ArtistTrackViewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Full rebuild of the artist_track_view read model, for when it may have drifted from its
+ * sources: writes made outside the API (manual SQL, restores) or a change to how rows are derived.
+ */
+@Service
+public class ArtistTrackViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtistTrackViewService.class);
+
+    @Autowired
+    private ArtistTrackViewRepository artistTrackViewRepository;
+
+    @Transactional
+    public int rebuild() {
+        long started = System.nanoTime();
+        int rows = artistTrackViewRepository.rebuild();
+        log.info("Rebuilt artist_track_view: {} rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
@@ -3,25 +3,56 @@ package com.ice.registration.service;
 import com.ice.registration.dto.GenreDto;
 import com.ice.registration.entity.Genre;
 import com.ice.registration.repository.GenreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Serves genres from an in-memory snapshot. The genre table is tiny and almost never changes,
+ * so it is loaded once at startup and re-read on a fixed delay; requests and track validation
+ * never touch the database.
+ */
 @Service
 public class GenreService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreService.class);
     
     @Autowired
     private GenreRepository genreRepository;
+
+    private volatile GenreSnapshot snapshot;
     
     public List<GenreDto> getAllGenres() {
-        return genreRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return getSnapshot().getGenres();
     }
-    
-    private GenreDto convertToDto(Genre genre) {
-        return new GenreDto(genre.getId(), genre.getDescription());
+
+    public GenreSnapshot getSnapshot() {
+        GenreSnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Reloads the genre table. The current snapshot is kept when nothing changed, so its
+     * version stays stable and clients holding it keep getting 304s.
+     */
+    @Scheduled(fixedDelayString = "${ice.genres.refresh-interval}")
+    public synchronized GenreSnapshot refresh() {
+        GenreSnapshot loaded = snapshotOf(genreRepository.findAll());
+        GenreSnapshot current = snapshot;
+        if (current != null && current.getVersion().equals(loaded.getVersion())) {
+            return current;
+        }
+
+        snapshot = loaded;
+        log.info("Loaded {} genres, version {}", loaded.getGenres().size(), loaded.getVersion());
+        return loaded;
+    }
+
+    static GenreSnapshot snapshotOf(List<Genre> genres) {
+        return GenreSnapshot.of(genres.stream().map(genre -> new GenreDto(genre.getId(), genre.getDescription())).toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,269 @@
+package com.ice.registration.service;
+
+import com.ice.registration.dto.ArtistSearchHitDto;
+import com.ice.registration.dto.SearchResultDto;
+import com.ice.registration.dto.TrackSearchHitDto;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over artist names and descriptions and track titles.
+ *
+ * Terms are normalized (lower case, accents and apostrophes removed) and kept in a sorted map
+ * from term to the documents containing it, so a query term is matched as a prefix with one
+ * range scan; that is what makes typeahead work. The longest query term picks the candidates,
+ * then each candidate is checked and scored against every query term using the normalized
+ * fields stored on the document itself, without further map lookups. Readers never lock;
+ * writers are serialized.
+ */
+public class SearchIndex {
+
+    // Shorter terms would expand to a large share of the vocabulary, so they only match whole words
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    // Bounds the work for a very broad prefix; exact matches are taken first, and typing more narrows it
+    static final int MAX_CANDIDATES = 2_000;
+
+    static final int NAME_EXACT = 8;
+    static final int NAME_PREFIX = 4;
+    static final int DESCRIPTION_EXACT = 2;
+    static final int DESCRIPTION_PREFIX = 1;
+    static final int TITLE_EXACT = 2;
+    static final int TITLE_PREFIX = 1;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['’]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Artists are indexed on name then description, tracks on title; the first field is the one displayed
+    private final Documents artists = new Documents(new int[] {NAME_EXACT, DESCRIPTION_EXACT}, new int[] {NAME_PREFIX, DESCRIPTION_PREFIX});
+    private final Documents tracks = new Documents(new int[] {TITLE_EXACT}, new int[] {TITLE_PREFIX});
+    private final Map<Integer, List<Integer>> trackArtists = new ConcurrentHashMap<>();
+
+    public void putArtist(Integer id, String name, String description) {
+        artists.put(new Document(id, name, description));
+    }
+
+    public void putTrack(Integer id, String title, Collection<Integer> artistIds) {
+        trackArtists.put(id, List.copyOf(artistIds));
+        tracks.put(new Document(id, title));
+    }
+
+    /**
+     * Bulk load for a new index, before it is published: documents are tokenized in parallel
+     * without taking the writer lock. {@code artistTexts} maps id to name and description.
+     */
+    void putAll(Map<Integer, String[]> artistTexts, Map<Integer, String> trackTitles, Map<Integer, List<Integer>> artistIdsByTrack) {
+        trackArtists.putAll(artistIdsByTrack);
+        artists.putAll(artistTexts.entrySet().parallelStream()
+                .map(entry -> new Document(entry.getKey(), entry.getValue())));
+        tracks.putAll(trackTitles.entrySet().parallelStream()
+                .map(entry -> new Document(entry.getKey(), entry.getValue())));
+    }
+
+    public int artistCount() {
+        return artists.byId.size();
+    }
+
+    public int trackCount() {
+        return tracks.byId.size();
+    }
+
+    public SearchResultDto search(String query, int limit) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new SearchResultDto(List.of(), List.of());
+        }
+        // Longer terms match fewer documents, so the longest one picks the candidates
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+
+        List<ArtistSearchHitDto> artistHits = new ArrayList<>();
+        for (Hit hit : artists.best(terms, limit)) {
+            artistHits.add(new ArtistSearchHitDto(hit.document().id, hit.document().text));
+        }
+        List<TrackSearchHitDto> trackHits = new ArrayList<>();
+        for (Hit hit : tracks.best(terms, limit)) {
+            Integer id = hit.document().id;
+            trackHits.add(new TrackSearchHitDto(id, hit.document().text, trackArtists.getOrDefault(id, List.of())));
+        }
+        return new SearchResultDto(artistHits, trackHits);
+    }
+
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        normalized = APOSTROPHES.matcher(normalized).replaceAll("").toLowerCase(Locale.ROOT);
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATORS.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * An indexed document. Each field is kept as its normalized terms joined by and wrapped in
+     * spaces, so " term " finds an exact match and " term" a prefix match with one scan.
+     */
+    private static final class Document {
+
+        final Integer id;
+        final String text;
+        final String[] fields;
+
+        Document(Integer id, String... texts) {
+            this.id = id;
+            this.text = texts[0];
+            this.fields = new String[texts.length];
+            for (int i = 0; i < texts.length; i++) {
+                Set<String> terms = tokenize(texts[i]);
+                fields[i] = terms.isEmpty() ? " " : " " + String.join(" ", terms) + " ";
+            }
+        }
+
+        Set<String> terms() {
+            Set<String> terms = new HashSet<>();
+            for (String field : fields) {
+                for (String term : field.trim().split(" ")) {
+                    if (!term.isEmpty()) {
+                        terms.add(term);
+                    }
+                }
+            }
+            return terms;
+        }
+    }
+
+    private record Hit(Document document, int score) {
+        // Best score first, then shorter text (a closer match), then id
+        static final Comparator<Hit> ORDER = Comparator.comparingInt((Hit hit) -> -hit.score())
+                .thenComparingInt(hit -> hit.document().text.length())
+                .thenComparingInt(hit -> hit.document().id);
+    }
+
+    /**
+     * The documents of one kind, with the sorted term dictionary over all their fields.
+     */
+    private static class Documents {
+
+        private final ConcurrentSkipListMap<String, Set<Document>> postings = new ConcurrentSkipListMap<>();
+        private final Map<Integer, Document> byId = new ConcurrentHashMap<>();
+        private final int[] exactWeights;
+        private final int[] prefixWeights;
+
+        Documents(int[] exactWeights, int[] prefixWeights) {
+            this.exactWeights = exactWeights;
+            this.prefixWeights = prefixWeights;
+        }
+
+        synchronized void put(Document document) {
+            index(document, document.terms());
+            Document previous = byId.put(document.id, document);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.terms()) {
+                postings.computeIfPresent(term, (key, documents) -> {
+                    documents.remove(previous);
+                    return documents.isEmpty() ? null : documents;
+                });
+            }
+        }
+
+        void putAll(Stream<Document> documents) {
+            documents.forEach(document -> {
+                index(document, document.terms());
+                byId.put(document.id, document);
+            });
+        }
+
+        private void index(Document document, Set<String> terms) {
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document);
+            }
+        }
+
+        // Documents matching every term, best first, keeping only the top hits rather than sorting them all
+        List<Hit> best(List<String> terms, int limit) {
+            String[] exact = new String[terms.size()];
+            String[] prefix = new String[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                exact[i] = " " + terms.get(i) + " ";
+                prefix[i] = terms.get(i).length() >= MIN_PREFIX_LENGTH ? " " + terms.get(i) : null;
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.ORDER.reversed());
+            for (Document document : candidates(terms.get(0))) {
+                int total = 0;
+                for (int i = 0; i < terms.size(); i++) {
+                    int score = score(document, exact[i], prefix[i]);
+                    if (score == 0) {
+                        total = 0;
+                        break;
+                    }
+                    total += score;
+                }
+                if (total > 0) {
+                    top.add(new Hit(document, total));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.ORDER);
+            return hits;
+        }
+
+        // Exact matches first, then the rest of the prefix range, up to MAX_CANDIDATES in total
+        private Set<Document> candidates(String term) {
+            Set<Document> candidates = new HashSet<>();
+            Set<Document> exact = postings.get(term);
+            if (exact != null && !addUpTo(exact, candidates)) {
+                return candidates;
+            }
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                for (Set<Document> documents : postings.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                    if (!addUpTo(documents, candidates)) {
+                        break;
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private static boolean addUpTo(Set<Document> documents, Set<Document> candidates) {
+            for (Document document : documents) {
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return false;
+                }
+                candidates.add(document);
+            }
+            return true;
+        }
+
+        // The term's best weight across the fields, 0 if no field contains it
+        private int score(Document document, String exact, String prefix) {
+            int score = 0;
+            for (int i = 0; i < document.fields.length; i++) {
+                String field = document.fields[i];
+                if (field.contains(exact)) {
+                    score = Math.max(score, exactWeights[i]);
+                } else if (prefix != null && field.contains(prefix)) {
+                    score = Math.max(score, prefixWeights[i]);
+                }
+            }
+            return score;
+        }
+    }
+}
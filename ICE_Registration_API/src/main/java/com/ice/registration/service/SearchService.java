@@ -0,0 +1,98 @@
+package com.ice.registration.service;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.SearchResultDto;
+import com.ice.registration.repository.SearchIndexRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Artist and track search served from an in-memory {@link SearchIndex}. The index is built at
+ * startup, before the application takes traffic, and kept current by the write paths in
+ * ArtistService and TrackService once their transactions commit. Queries never touch the
+ * database.
+ *
+ * Each instance indexes only the writes made through it; changes made elsewhere (other
+ * instances, manual SQL) are picked up when the index is next rebuilt, at restart.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private SearchIndexRepository searchIndexRepository;
+
+    // Off for processes that never search, such as the command line catalogue import
+    @Value("${ice.search.build-on-startup:true}")
+    private boolean buildOnStartup;
+
+    private volatile SearchIndex index = new SearchIndex();
+
+    public SearchResultDto search(String query, Integer limit) {
+        int size = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return index.search(query, size);
+    }
+
+    @PostConstruct
+    void buildOnStartup() {
+        if (buildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a new index from the database and swaps it in. The three tables are read
+     * concurrently and the fields are tokenized in parallel.
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+
+        CompletableFuture<Map<Integer, String[]>> artists = CompletableFuture.supplyAsync(searchIndexRepository::findArtistTexts);
+        CompletableFuture<Map<Integer, String>> tracks = CompletableFuture.supplyAsync(searchIndexRepository::findTrackTitles);
+        CompletableFuture<Map<Integer, List<Integer>>> artistIdsByTrack = CompletableFuture.supplyAsync(searchIndexRepository::findArtistIdsByTrack);
+
+        SearchIndex rebuilt = new SearchIndex();
+        rebuilt.putAll(artists.join(), tracks.join(), artistIdsByTrack.join());
+        index = rebuilt;
+
+        log.info("Indexed {} artists and {} tracks for search in {} ms",
+                rebuilt.artistCount(), rebuilt.trackCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void indexArtist(ArtistDto artist) {
+        afterCommit(() -> index.putArtist(artist.getId(), artist.getName(), artist.getDescription()));
+    }
+
+    public void indexTrack(Integer trackId, String title, Collection<Integer> artistIds) {
+        afterCommit(() -> index.putTrack(trackId, title, artistIds));
+    }
+
+    // A rolled back write must not become searchable, so inside a transaction the update waits for commit
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ice.registration.service;
+
+import com.ice.registration.repository.ArtistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciles the denormalized artist.track_count column with artist_track. TrackService
+ * keeps the column current on every write; this job only catches drift from writes made
+ * outside the API (manual SQL, restores) and walks the artist table in id-range chunks.
+ */
+@Component
+public class TrackCountRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackCountRepairJob.class);
+
+    static final int CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Scheduled(cron = "${ice.track-count.repair-cron}")
+    public int repairTrackCounts() {
+        int maxId = artistRepository.findMaxId();
+        int corrected = 0;
+        for (int afterId = 0; afterId < maxId; afterId += CHUNK_SIZE) {
+            corrected += artistService.reconcileTrackCounts(afterId, Math.min(afterId + CHUNK_SIZE, maxId));
+        }
+
+        if (corrected > 0) {
+            log.warn("Corrected track_count drift on {} artists", corrected);
+        } else {
+            log.info("Track counts are consistent for artists up to id {}", maxId);
+        }
+        return corrected;
+    }
+}
@@ -1,23 +1,42 @@
 package com.ice.registration.service;
 
+import com.ice.registration.dto.GenreDto;
+import com.ice.registration.dto.TrackBatchErrorDto;
+import com.ice.registration.dto.TrackBatchResultDto;
 import com.ice.registration.dto.TrackDto;
 import com.ice.registration.entity.Artist;
 import com.ice.registration.entity.Genre;
 import com.ice.registration.entity.Track;
 import com.ice.registration.repository.ArtistRepository;
+import com.ice.registration.repository.ArtistTrackViewRepository;
 import com.ice.registration.repository.GenreRepository;
+import com.ice.registration.repository.TrackBatchRepository;
 import com.ice.registration.repository.TrackRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 public class TrackService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackService.class);
+
+    public static final int MAX_BATCH_SIZE = 50_000;
+
+    /** The length of the track.title column */
+    public static final int MAX_TITLE_LENGTH = 255;
     
     @Autowired
     private TrackRepository trackRepository;
@@ -27,13 +46,32 @@ public class TrackService {
 
     @Autowired
     private GenreRepository genreRepository;
-    
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private TrackBatchRepository trackBatchRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ArtistTrackViewRepository artistTrackViewRepository;
+
+    /**
+     * Read from the artist_track_view read model: one index range scan, with the genre name and
+     * formatted length already on each row. Empty for an unknown artist.
+     */
+    @Transactional(readOnly = true)
     public List<TrackDto> getTracksByArtistId(Integer artistId) {
-        return trackRepository.findByArtistIdWithGenre(artistId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return artistTrackViewRepository.findByArtistId(artistId);
     }
 
+    @Transactional
     public TrackDto createTrack(TrackDto trackDto) {
 
         if (trackDto.getTitle() == null || trackDto.getTitle().trim().isEmpty()) {
@@ -45,39 +83,166 @@ public class TrackService {
         if (trackDto.getArtistIds() == null || trackDto.getArtistIds().isEmpty()) {
             throw new RuntimeException("At least one artist is required");
         }
+        String columnError = checkColumnLimits(trackDto);
+        if (columnError != null) {
+            throw new RuntimeException(columnError);
+        }
 
         Track track = new Track();
         track.setTitle(trackDto.getTitle().trim());
         track.setLengthSeconds(trackDto.getLengthSeconds());
 
-        Genre genre = genreRepository.findById(trackDto.getGenreId())
+        GenreDto genre = genreService.getSnapshot().findById(trackDto.getGenreId())
                 .orElseThrow(() -> new RuntimeException("Genre not found"));
-        track.setGenre(genre);
+        track.setGenre(genreRepository.getReferenceById(genre.getId()));
+
+        Set<Integer> artistIds = new LinkedHashSet<>(trackDto.getArtistIds());
+        List<Artist> artists = artistRepository.findAllById(artistIds);
+        if (artists.size() != artistIds.size()) {
+            Set<Integer> foundIds = artists.stream().map(Artist::getId).collect(Collectors.toSet());
+            Integer missingId = artistIds.stream().filter(id -> !foundIds.contains(id)).findFirst().orElse(null);
+            throw new RuntimeException("Artist not found: " + missingId);
+        }
 
         Track savedTrack = trackRepository.save(track);
 
-        Set<Artist> artists = new HashSet<>();
-        for (Integer artistId : trackDto.getArtistIds()) {
-            Artist artist = artistRepository.findById(artistId)
-                    .orElseThrow(() -> new RuntimeException("Artist not found: " + artistId));
-            artists.add(artist);
+        // Link through the join table and bump the denormalized counts with one statement each,
+        // instead of adding to each Artist.tracks collection (which would load it in full)
+        artistRepository.addTrack(artistIds, savedTrack.getId());
+        artistRepository.incrementTrackCount(artistIds);
+        artistTrackViewRepository.insertForTracks(List.of(savedTrack.getId()));
+        artistIds.forEach(artistService::evictFeaturedArtist);
+        searchService.indexTrack(savedTrack.getId(), savedTrack.getTitle(), artistIds);
+        savedTrack.setArtists(new HashSet<>(artists));
+
+        return convertToDto(savedTrack, genre.getName());
+    }
+    
+    /**
+     * Registers many tracks in one transaction. Genres and artists referenced by the whole
+     * batch are resolved with one query each, and tracks, artist_track rows and track counts
+     * are written as JDBC batches. Invalid items are skipped and reported by index; they do
+     * not prevent the valid items from being created.
+     */
+    @Transactional
+    public TrackBatchResultDto createTracks(List<TrackDto> trackDtos) {
+        if (trackDtos == null || trackDtos.isEmpty()) {
+            throw new RuntimeException("At least one track is required");
+        }
+        if (trackDtos.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("A batch may contain at most " + MAX_BATCH_SIZE + " tracks");
+        }
+        long started = System.nanoTime();
+
+        Set<Integer> artistIds = new HashSet<>();
+        for (TrackDto trackDto : trackDtos) {
+            if (trackDto != null && trackDto.getArtistIds() != null) {
+                trackDto.getArtistIds().stream().filter(Objects::nonNull).forEach(artistIds::add);
+            }
+        }
+
+        GenreSnapshot genres = genreService.getSnapshot();
+        Set<Integer> existingArtistIds = artistIds.isEmpty() ? Set.of() : trackBatchRepository.findExistingArtistIds(artistIds);
 
-            if (artist.getTracks() == null) {
-                artist.setTracks(new HashSet<>());
+        List<TrackBatchErrorDto> errors = new ArrayList<>();
+        List<Track> tracks = new ArrayList<>();
+        List<Set<Integer>> trackArtistIds = new ArrayList<>();
+        for (int i = 0; i < trackDtos.size(); i++) {
+            TrackDto trackDto = trackDtos.get(i);
+            String error = validateBatchItem(trackDto, genres, existingArtistIds);
+            if (error != null) {
+                errors.add(new TrackBatchErrorDto(i, error));
+                continue;
             }
-            artist.getTracks().add(savedTrack);
+            Genre genre = genreRepository.getReferenceById(trackDto.getGenreId());
+            tracks.add(new Track(trackDto.getTitle().trim(), genre, trackDto.getLengthSeconds()));
+            trackArtistIds.add(new LinkedHashSet<>(trackDto.getArtistIds()));
         }
 
-        savedTrack.setArtists(artists);
+        if (tracks.isEmpty()) {
+            return new TrackBatchResultDto(List.of(), errors);
+        }
+
+        List<Integer> trackIds = trackBatchRepository.allocateTrackIds(tracks.size());
+        List<int[]> links = new ArrayList<>();
+        // Sorted so concurrent batches lock artist rows in the same order
+        Map<Integer, Integer> addedTracksByArtist = new TreeMap<>();
+        for (int i = 0; i < tracks.size(); i++) {
+            Integer trackId = trackIds.get(i);
+            tracks.get(i).setId(trackId);
+            for (Integer artistId : trackArtistIds.get(i)) {
+                links.add(new int[] {artistId, trackId});
+                addedTracksByArtist.merge(artistId, 1, Integer::sum);
+            }
+        }
 
-        artistRepository.saveAll(artists);
-        savedTrack = trackRepository.save(savedTrack);
+        trackBatchRepository.insertTracks(tracks);
+        trackBatchRepository.insertArtistTracks(links);
+        trackBatchRepository.incrementTrackCounts(addedTracksByArtist);
+        artistTrackViewRepository.insertForTracks(trackIds);
+        addedTracksByArtist.keySet().forEach(artistService::evictFeaturedArtist);
+        for (int i = 0; i < tracks.size(); i++) {
+            searchService.indexTrack(tracks.get(i).getId(), tracks.get(i).getTitle(), trackArtistIds.get(i));
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Registered {} tracks ({} rejected) in {} ms, {} tracks/s",
+                tracks.size(), errors.size(), elapsedMillis, tracks.size() * 1000L / elapsedMillis);
 
-        return convertToDto(savedTrack);
+        List<TrackDto> created = tracks.stream()
+                .map(track -> convertToDto(track, genres.findById(track.getGenre().getId()).map(GenreDto::getName).orElse("Unknown")))
+                .collect(Collectors.toList());
+        return new TrackBatchResultDto(created, errors);
     }
-    
-    private TrackDto convertToDto(Track track) {
+
+    private String validateBatchItem(TrackDto trackDto, GenreSnapshot genres, Set<Integer> existingArtistIds) {
+        if (trackDto == null) {
+            return "Track is required";
+        }
+        if (trackDto.getTitle() == null || trackDto.getTitle().trim().isEmpty()) {
+            return "Track title is required";
+        }
+        if (trackDto.getGenreId() == null) {
+            return "Genre is required";
+        }
+        if (trackDto.getArtistIds() == null || trackDto.getArtistIds().isEmpty()) {
+            return "At least one artist is required";
+        }
+        String columnError = checkColumnLimits(trackDto);
+        if (columnError != null) {
+            return columnError;
+        }
+        if (genres.findById(trackDto.getGenreId()).isEmpty()) {
+            return "Genre not found";
+        }
+        for (Integer artistId : trackDto.getArtistIds()) {
+            if (!existingArtistIds.contains(artistId)) {
+                return "Artist not found: " + artistId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks the values against the track table's constraints, so that one item cannot fail the
+     * statement that writes a whole batch. Expects a title.
+     */
+    private String checkColumnLimits(TrackDto trackDto) {
+        if (trackDto.getTitle().trim().length() > MAX_TITLE_LENGTH) {
+            return "Track title must be at most " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (trackDto.getLengthSeconds() != null && trackDto.getLengthSeconds() <= 0) {
+            return "Track length must be positive";
+        }
+        return null;
+    }
+
+    TrackDto convertToDto(Track track) {
         String genreDescription = track.getGenre() != null ? track.getGenre().getDescription() : "Unknown";
+        return convertToDto(track, genreDescription);
+    }
+
+    TrackDto convertToDto(Track track, String genreDescription) {
         return new TrackDto(
                 track.getId(),
                 track.getTitle(),
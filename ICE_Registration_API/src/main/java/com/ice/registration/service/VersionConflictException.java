@@ -0,0 +1,12 @@
+package com.ice.registration.service;
+
+/**
+ * Thrown when a conditional write names a version the entity is no longer at.
+ * Controllers map it to 412 Precondition Failed.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ice.registration.web;
+
+import com.ice.registration.datasource.ConnectionPermitTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers a request that could not get a database connection permit in time with 503 and
+ * Retry-After. The permit timeout usually arrives wrapped in a transaction or data access
+ * exception; exception handlers also match on the cause.
+ */
+@RestControllerAdvice
+public class ConnectionPermitExceptionHandler {
+
+    @ExceptionHandler(ConnectionPermitTimeoutException.class)
+    public ResponseEntity<Void> connectionPermitTimeout() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ice.registration.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for hot reads.
+ *
+ * The first request for a key runs the load on its own thread; requests for the same key that
+ * arrive while it is running wait for it and all get its result (or its exception) instead of
+ * running the same queries again. A trending artist then costs one load at a time, however many
+ * requests ask for it. The result object is shared between the requests, so it must not be
+ * modified.
+ *
+ * Each load has a deadline, the timeout after it started. Waiting requests still waiting at the
+ * deadline give up with a {@link SingleFlightTimeoutException} (503), and the next request for
+ * the key starts a fresh load, so one stuck query cannot hold a key indefinitely.
+ *
+ * Requests per name are counted as ice.single-flight.requests with result leader (ran the load),
+ * coalesced (shared another request's load) or timeout.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(@Value("${ice.single-flight.timeout:PT2S}") Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ice.single-flight.in-flight", flights, Map::size)
+                .description("Loads currently shared by concurrent requests")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of {@code loader}, or of the load already running for the same
+     * {@code name} and {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(name, key);
+        Flight flight = new Flight(System.nanoTime() + timeout.toNanos());
+        Flight inFlight = flights.putIfAbsent(flightKey, flight);
+        // Past its deadline the running load is left to finish on its own and this request starts another
+        if (inFlight != null && inFlight.deadline - System.nanoTime() <= 0 && flights.replace(flightKey, inFlight, flight)) {
+            inFlight = null;
+        }
+
+        if (inFlight == null) {
+            counter(name, "leader").increment();
+            try {
+                T value = loader.get();
+                flight.result.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                flights.remove(flightKey, flight);
+            }
+        }
+
+        try {
+            T value = (T) inFlight.result.get(inFlight.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            counter(name, "coalesced").increment();
+            return value;
+        } catch (ExecutionException e) {
+            counter(name, "coalesced").increment();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw (Error) e.getCause();
+        } catch (TimeoutException e) {
+            counter(name, "timeout").increment();
+            throw new SingleFlightTimeoutException("No " + name + " result for " + key + " within " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            counter(name, "timeout").increment();
+            throw new SingleFlightTimeoutException("Interrupted waiting for " + name + " " + key);
+        }
+    }
+
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    private Counter counter(String name, String result) {
+        return counters.computeIfAbsent(name + "/" + result, ignored -> Counter.builder("ice.single-flight.requests")
+                .description("Reads by whether they ran a load or shared a concurrent one")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private record FlightKey(String name, Object key) {}
+
+    private static class Flight {
+
+        private final long deadline;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Flight(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
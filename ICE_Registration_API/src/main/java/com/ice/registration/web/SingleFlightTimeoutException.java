@@ -0,0 +1,12 @@
+package com.ice.registration.web;
+
+/**
+ * Thrown to a request that waited on another request's load past its deadline.
+ * Controllers map it to 503 Service Unavailable.
+ */
+public class SingleFlightTimeoutException extends RuntimeException {
+
+    public SingleFlightTimeoutException(String message) {
+        super(message);
+    }
+}
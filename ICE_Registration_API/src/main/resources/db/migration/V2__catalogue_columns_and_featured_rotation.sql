@@ -0,0 +1,29 @@
+-- Columns and tables added since the original schema (version 1). A database created by the old
+-- init scripts is adopted as version 1 and starts here, so existing rows are backfilled.
+
+-- Denormalized number of artist_track rows, maintained by the API so reads never count the links
+ALTER TABLE artist ADD COLUMN track_count INTEGER NOT NULL DEFAULT 0;
+
+-- Optimistic lock, bumped on every change to the artist row or its track set; exposed as the ETag
+ALTER TABLE artist ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Caller's key for rows loaded by the catalogue import, so a re-import updates them
+ALTER TABLE artist ADD COLUMN external_id VARCHAR(255) UNIQUE;
+ALTER TABLE track ADD COLUMN external_id VARCHAR(255) UNIQUE;
+
+UPDATE artist a
+SET track_count = (SELECT COUNT(*) FROM artist_track at WHERE at.artist_id = a.id);
+
+-- Artist of the Day: a persisted permutation of artists. Slot n is featured on day n of a
+-- cycle; new artists are appended after the last slot so the existing order never changes.
+CREATE TABLE featured_rotation (
+    slot INTEGER PRIMARY KEY,
+    artist_id INTEGER NOT NULL UNIQUE REFERENCES artist(id) ON DELETE CASCADE
+);
+
+CREATE TABLE featured_rotation_state (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    cycle_start_day DATE NOT NULL
+);
+
+INSERT INTO featured_rotation_state (id, cycle_start_day) VALUES (1, CURRENT_DATE);
@@ -0,0 +1,5 @@
+-- The primary key of artist_track only serves lookups by artist. Track.artists, and the foreign
+-- key check when a track is deleted, look links up by track; Genre.tracks, and ON DELETE SET NULL
+-- when a genre is deleted, look tracks up by genre. Without these both scan the whole table.
+CREATE INDEX artist_track_track_id_idx ON artist_track (track_id);
+CREATE INDEX track_genre_id_idx ON track (genre_id);
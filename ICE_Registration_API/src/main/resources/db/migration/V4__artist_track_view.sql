@@ -0,0 +1,24 @@
+-- Read model for GET /api/artists/{id}/tracks: one pre-joined row per artist and track, so the
+-- endpoint reads one index range instead of joining artist_track, track and genre. Kept current
+-- by the writes that change its sources (see ArtistTrackViewRepository) and rebuilt from them
+-- with ArtistTrackViewRebuildApplication. Tracks without a genre are left out, as the join did.
+CREATE TABLE artist_track_view (
+    artist_id INTEGER NOT NULL,
+    track_id INTEGER NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    genre VARCHAR(100) NOT NULL,
+    length_seconds INTEGER,
+    formatted_length VARCHAR(16) NOT NULL,
+    PRIMARY KEY (artist_id, track_id)
+);
+
+-- For changes to a track, which reach every artist it is linked to
+CREATE INDEX artist_track_view_track_id_idx ON artist_track_view (track_id);
+
+INSERT INTO artist_track_view (artist_id, track_id, title, genre, length_seconds, formatted_length)
+SELECT at.artist_id, at.track_id, t.title, g.description, t.length_seconds,
+       CASE WHEN t.length_seconds IS NULL THEN '0:00'
+            ELSE CAST(t.length_seconds / 60 AS VARCHAR) || ':' || LPAD(CAST(MOD(t.length_seconds, 60) AS VARCHAR), 2, '0') END
+FROM artist_track at
+JOIN track t ON t.id = at.track_id
+JOIN genre g ON g.id = t.genre_id;
@@ -0,0 +1,58 @@
+-- Sample catalogue for local development, applied after the schema migrations. Rows are only
+-- added when missing, so it is safe to run against a database that already has them (such as
+-- one created by the old init scripts) and is re-applied whenever this file changes.
+
+INSERT INTO genre (description)
+SELECT v.description
+FROM (VALUES (1, 'Indie Rock'), (2, 'Country'), (3, 'Metal')) AS v(n, description)
+WHERE NOT EXISTS (SELECT 1 FROM genre g WHERE g.description = v.description)
+ORDER BY v.n;
+
+INSERT INTO artist (name, picture, description)
+SELECT v.name, v.picture, v.description
+FROM (VALUES (1, 'Generic Indie Landfill Band', 'https://singersroom.com/wp-content/uploads/2024/02/15-Best-Indie-Bands-of-All-Time.jpg', 'Moody vocals, jangly guitars, and vintage filters.'),
+             (2, 'AutoTuna', 'https://hips.hearstapps.com/hmg-prod/images/best-female-country-singers-mickey-guyton-1652413741.jpg', 'Country-pop fusion with heavy vocal effects.'),
+             (3, 'Mild Rage', 'https://www.season-of-mist.com/wp-content/uploads/2020/03/AndOceans_3_FULL_ARTISTIC-300x300.jpg', 'Melodic metal with a hint of existential dread.'))
+     AS v(n, name, picture, description)
+WHERE NOT EXISTS (SELECT 1 FROM artist a WHERE a.name = v.name)
+ORDER BY v.n;
+
+INSERT INTO track (title, genre_id, length_seconds)
+SELECT v.title, (SELECT id FROM genre WHERE description = v.genre), v.length_seconds
+FROM (VALUES (1, 'Coffee and Rain', 'Indie Rock', 214),
+             (2, 'Vinyl Heart', 'Indie Rock', 198),
+             (3, 'Truckin'' Alone', 'Country', 231),
+             (4, 'Moonshine Dreams', 'Country', 205),
+             (5, 'Silent Screams', 'Metal', 312),
+             (6, 'Ashes Reign', 'Metal', 287))
+     AS v(n, title, genre, length_seconds)
+WHERE NOT EXISTS (SELECT 1 FROM track t WHERE t.title = v.title)
+ORDER BY v.n;
+
+INSERT INTO artist_track (artist_id, track_id)
+SELECT a.id, t.id
+FROM (VALUES ('Generic Indie Landfill Band', 'Coffee and Rain'),
+             ('Generic Indie Landfill Band', 'Vinyl Heart'),
+             ('AutoTuna', 'Truckin'' Alone'),
+             ('AutoTuna', 'Moonshine Dreams'),
+             ('Mild Rage', 'Silent Screams'),
+             ('Mild Rage', 'Ashes Reign'))
+     AS v(artist, title)
+JOIN artist a ON a.name = v.artist AND a.external_id IS NULL
+JOIN track t ON t.title = v.title AND t.external_id IS NULL
+WHERE NOT EXISTS (SELECT 1 FROM artist_track at WHERE at.artist_id = a.id AND at.track_id = t.id);
+
+UPDATE artist a
+SET track_count = (SELECT COUNT(*) FROM artist_track at WHERE at.artist_id = a.id)
+WHERE a.external_id IS NULL AND a.name IN ('Generic Indie Landfill Band', 'AutoTuna', 'Mild Rage');
+
+INSERT INTO artist_track_view (artist_id, track_id, title, genre, length_seconds, formatted_length)
+SELECT at.artist_id, at.track_id, t.title, g.description, t.length_seconds,
+       CASE WHEN t.length_seconds IS NULL THEN '0:00'
+            ELSE CAST(t.length_seconds / 60 AS VARCHAR) || ':' || LPAD(CAST(MOD(t.length_seconds, 60) AS VARCHAR), 2, '0') END
+FROM artist_track at
+JOIN artist a ON a.id = at.artist_id AND a.external_id IS NULL
+JOIN track t ON t.id = at.track_id AND t.external_id IS NULL
+JOIN genre g ON g.id = t.genre_id
+WHERE a.name IN ('Generic Indie Landfill Band', 'AutoTuna', 'Mild Rage')
+  AND NOT EXISTS (SELECT 1 FROM artist_track_view v WHERE v.artist_id = at.artist_id AND v.track_id = at.track_id);
@@ -0,0 +1,108 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueExportServiceTest {
+
+    @Mock
+    private CatalogueExportRepository catalogueExportRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private CatalogueExportService catalogueExportService;
+
+    @Test
+    void exportCatalogue_ShouldWriteOneLinePerArtistWithNestedTracks() throws Exception {
+        // Given
+        streamArtists(List.of(
+                new ArtistDto(1, "Generic Indie Landfill Band", "band.jpg", "Moody vocals.", 2),
+                new ArtistDto(3, "Mild Rage", null, null, 0)));
+        when(catalogueExportRepository.findTracksByArtistIdBetween(1, 3)).thenReturn(Map.of(1, List.of(
+                new TrackDto(1, "Coffee and Rain", "Indie Rock", 214),
+                new TrackDto(2, "Vinyl Heart", null, null))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = catalogueExportService.exportCatalogue(out);
+
+        // Then
+        assertEquals(2, exported);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Generic Indie Landfill Band\",\"photo\":\"band.jpg\",\"description\":\"Moody vocals.\","
+                + "\"trackCount\":2,\"tracks\":[{\"id\":1,\"title\":\"Coffee and Rain\",\"genre\":\"Indie Rock\","
+                + "\"lengthSeconds\":214,\"formattedLength\":\"3:34\"},{\"id\":2,\"title\":\"Vinyl Heart\",\"genre\":null,"
+                + "\"lengthSeconds\":null,\"formattedLength\":\"0:00\"}]}", lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("Mild Rage", second.get("name").asText());
+        assertEquals(0, second.get("tracks").size());
+    }
+
+    @Test
+    void exportCatalogue_ShouldLookUpTracksOncePerBatch() throws Exception {
+        // Given
+        int artists = CatalogueExportService.BATCH_SIZE * 2 + 1;
+        streamArtists(IntStream.rangeClosed(1, artists)
+                .mapToObj(id -> new ArtistDto(id, "Artist " + id, null, null, 0))
+                .toList());
+        when(catalogueExportRepository.findTracksByArtistIdBetween(anyInt(), anyInt())).thenReturn(Map.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = catalogueExportService.exportCatalogue(out);
+
+        // Then
+        assertEquals(artists, exported);
+        verify(catalogueExportRepository).findTracksByArtistIdBetween(1, CatalogueExportService.BATCH_SIZE);
+        verify(catalogueExportRepository).findTracksByArtistIdBetween(CatalogueExportService.BATCH_SIZE + 1, CatalogueExportService.BATCH_SIZE * 2);
+        verify(catalogueExportRepository).findTracksByArtistIdBetween(artists, artists);
+        assertEquals(artists, out.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    void exportCatalogue_ShouldWriteNothingForEmptyCatalogue() throws Exception {
+        // Given
+        streamArtists(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = catalogueExportService.exportCatalogue(out);
+
+        // Then
+        assertEquals(0, exported);
+        assertEquals(0, out.size());
+        verify(catalogueExportRepository, never()).findTracksByArtistIdBetween(anyInt(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamArtists(List<ArtistDto> artists) {
+        doAnswer(invocation -> {
+            artists.forEach(invocation.<Consumer<ArtistDto>>getArgument(0));
+            return null;
+        }).when(catalogueExportRepository).streamArtists(any(Consumer.class));
+    }
+}
@@ -0,0 +1,119 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.cache.SecondLevelCacheEvictor;
+import com.ice.registration.dto.CatalogueImportResultDto;
+import com.ice.registration.service.ArtistService;
+import com.ice.registration.service.GenreService;
+import com.ice.registration.service.SearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueImportServiceTest {
+
+    @Mock
+    private CatalogueImportRepository catalogueImportRepository;
+
+    @Mock
+    private ArtistService artistService;
+
+    @Mock
+    private GenreService genreService;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private CatalogueImportService catalogueImportService;
+
+    @Test
+    void importCatalogue_ShouldCopyIntoStagingTableThenMerge() {
+        // Given
+        InputStream input = stream("external_id,name\nA1,Mild Rage\nA2,AutoTuna\n");
+        AtomicReference<String> copied = new AtomicReference<>();
+        when(catalogueImportRepository.copyIn(eq(CatalogueKind.ARTISTS), eq(List.of("external_id", "name")), any()))
+                .thenAnswer(invocation -> {
+                    copied.set(new String(invocation.<InputStream>getArgument(2).readAllBytes(), StandardCharsets.UTF_8));
+                    return 2L;
+                });
+        when(catalogueImportRepository.merge(CatalogueKind.ARTISTS)).thenReturn(1L);
+
+        // When
+        CatalogueImportResultDto result = catalogueImportService.importCatalogue(CatalogueKind.ARTISTS, CatalogueFormat.CSV, input);
+
+        // Then
+        assertEquals("artists", result.getKind());
+        assertEquals(2, result.getRowsRead());
+        assertEquals(1, result.getRowsMerged());
+        assertEquals("A1,Mild Rage\nA2,AutoTuna\n", copied.get());
+
+        InOrder inOrder = inOrder(catalogueImportRepository);
+        inOrder.verify(catalogueImportRepository).createStagingTable(CatalogueKind.ARTISTS);
+        inOrder.verify(catalogueImportRepository).copyIn(eq(CatalogueKind.ARTISTS), any(), any());
+        inOrder.verify(catalogueImportRepository).analyzeStagingTable(CatalogueKind.ARTISTS);
+        inOrder.verify(catalogueImportRepository).merge(CatalogueKind.ARTISTS);
+        verifyNoInteractions(searchService, genreService);
+    }
+
+    @Test
+    void importCatalogue_ShouldNotTouchDatabaseWhenHeaderIsInvalid() {
+        // Given
+        InputStream input = stream("external_id,title\nT1,Coffee and Rain\n");
+
+        // When & Then
+        assertThrows(RuntimeException.class,
+                () -> catalogueImportService.importCatalogue(CatalogueKind.TRACKS, CatalogueFormat.CSV, input));
+        verifyNoInteractions(catalogueImportRepository);
+    }
+
+    @Test
+    void refreshAfterImport_ShouldEvictCachesAndReloadGenresOrRebuildSearchIndex() {
+        // When
+        catalogueImportService.refreshAfterImport(CatalogueKind.GENRES);
+        catalogueImportService.refreshAfterImport(CatalogueKind.TRACKS);
+
+        // Then
+        verify(genreService).refresh();
+        verify(searchService).rebuild();
+        verify(secondLevelCacheEvictor, times(2)).evictAll();
+    }
+
+    @Test
+    void refreshAfterImport_ShouldEvictFeaturedArtistAfterArtistAndTrackImports() {
+        // When
+        catalogueImportService.refreshAfterImport(CatalogueKind.GENRES);
+        catalogueImportService.refreshAfterImport(CatalogueKind.ARTISTS);
+        catalogueImportService.refreshAfterImport(CatalogueKind.TRACKS);
+        catalogueImportService.refreshAfterImport(CatalogueKind.ARTIST_TRACKS);
+
+        // Then
+        verify(artistService, times(3)).evictFeaturedArtist();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
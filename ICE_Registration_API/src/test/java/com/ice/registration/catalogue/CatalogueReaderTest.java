@@ -0,0 +1,113 @@
+package com.ice.registration.catalogue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogueReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void open_ShouldTakeColumnsFromCsvHeaderAndPassRowsThrough() throws IOException {
+        // Given
+        String file = "\uFEFFexternalId,\"name\",DESCRIPTION\r\nA1,\"Mild Rage\",\"Loud, then quiet\"\nA2,AutoTuna,\n";
+
+        // When
+        CatalogueReader reader = open(CatalogueKind.ARTISTS, CatalogueFormat.CSV, file);
+
+        // Then
+        assertEquals(List.of("external_id", "name", "description"), reader.getColumns());
+        assertEquals("A1,\"Mild Rage\",\"Loud, then quiet\"\nA2,AutoTuna,\n", read(reader.getCsv()));
+    }
+
+    @Test
+    void open_ShouldRejectUnknownColumn() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> open(CatalogueKind.ARTISTS, CatalogueFormat.CSV, "external_id,name,alias\n"));
+
+        assertTrue(exception.getMessage().contains("Unknown column 'alias'"));
+    }
+
+    @Test
+    void open_ShouldRejectMissingRequiredColumn() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> open(CatalogueKind.TRACKS, CatalogueFormat.CSV, "external_id,title\nT1,Coffee and Rain\n"));
+
+        assertEquals("Missing required column 'genre' for tracks", exception.getMessage());
+    }
+
+    @Test
+    void open_ShouldRejectDuplicateColumn() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> open(CatalogueKind.ARTISTS, CatalogueFormat.CSV, "external_id,name,externalId\n"));
+
+        assertEquals("Duplicate column 'external_id'", exception.getMessage());
+    }
+
+    @Test
+    void open_ShouldRejectEmptyCsv() {
+        assertThrows(RuntimeException.class, () -> open(CatalogueKind.GENRES, CatalogueFormat.CSV, ""));
+    }
+
+    @Test
+    void open_ShouldTranscodeNdjsonToCsvInColumnOrder() throws IOException {
+        // Given
+        String file = """
+                {"title":"Coffee and Rain","externalId":"T1","genre":"Indie Rock","lengthSeconds":215}
+                {"external_id":"T2","title":"Say \\"Hi\\", Bye","genre":"Metal","length_seconds":null}
+                """;
+
+        // When
+        CatalogueReader reader = open(CatalogueKind.TRACKS, CatalogueFormat.NDJSON, file);
+
+        // Then
+        assertEquals(List.of("external_id", "title", "genre", "length_seconds"), reader.getColumns());
+        assertEquals("\"T1\",\"Coffee and Rain\",\"Indie Rock\",\"215\"\n"
+                + "\"T2\",\"Say \"\"Hi\"\", Bye\",\"Metal\",\n", read(reader.getCsv()));
+    }
+
+    @Test
+    void open_ShouldReportRowOfInvalidNdjson() {
+        // Given
+        CatalogueReader reader = open(CatalogueKind.GENRES, CatalogueFormat.NDJSON, "{\"description\":\"Rock\"}\n[\"Jazz\"]\n");
+
+        // When
+        IOException exception = assertThrows(IOException.class, () -> read(reader.getCsv()));
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("Invalid NDJSON at row 2"));
+    }
+
+    @Test
+    void format_ShouldFollowContentTypeAndFileName() {
+        assertEquals(CatalogueFormat.CSV, CatalogueFormat.fromContentType("text/csv; charset=UTF-8"));
+        assertEquals(CatalogueFormat.NDJSON, CatalogueFormat.fromContentType("application/x-ndjson"));
+        assertEquals(CatalogueFormat.NDJSON, CatalogueFormat.fromFileName("tracks.jsonl.gz"));
+        assertEquals(CatalogueFormat.CSV, CatalogueFormat.fromFileName("artists.CSV"));
+        assertThrows(RuntimeException.class, () -> CatalogueFormat.fromContentType("text/plain"));
+    }
+
+    @Test
+    void kind_ShouldResolveFromNameWithStagingTable() {
+        assertEquals(CatalogueKind.ARTIST_TRACKS, CatalogueKind.fromName("artist-tracks"));
+        assertEquals("import_artist_tracks", CatalogueKind.ARTIST_TRACKS.getStagingTable());
+        assertThrows(RuntimeException.class, () -> CatalogueKind.fromName("albums"));
+    }
+
+    private CatalogueReader open(CatalogueKind kind, CatalogueFormat format, String file) {
+        InputStream input = new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8));
+        return CatalogueReader.open(kind, format, input, objectMapper);
+    }
+
+    private static String read(InputStream csv) throws IOException {
+        return new String(csv.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
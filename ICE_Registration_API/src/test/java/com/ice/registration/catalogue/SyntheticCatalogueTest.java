@@ -0,0 +1,128 @@
+package com.ice.registration.catalogue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticCatalogueTest {
+
+    @Test
+    void open_ShouldProduceTheSameFilesForTheSameSeed() throws IOException {
+        // Given
+        SyntheticCatalogue first = new SyntheticCatalogue(shape(2_000, 7));
+        SyntheticCatalogue second = new SyntheticCatalogue(shape(2_000, 7));
+        SyntheticCatalogue otherSeed = new SyntheticCatalogue(shape(2_000, 8));
+
+        for (CatalogueKind kind : List.of(CatalogueKind.ARTISTS, CatalogueKind.TRACKS, CatalogueKind.ARTIST_TRACKS)) {
+            // When
+            byte[] bytes = read(first, kind);
+
+            // Then
+            assertArrayEquals(bytes, read(second, kind), kind.getFileName());
+            assertFalse(Arrays.equals(bytes, read(otherSeed, kind)), kind.getFileName());
+        }
+    }
+
+    @Test
+    void open_ShouldWriteHeaderTheImportAccepts() throws IOException {
+        SyntheticCatalogue catalogue = new SyntheticCatalogue(shape(10, 1));
+
+        for (CatalogueKind kind : CatalogueKind.values()) {
+            try (InputStream input = catalogue.open(kind)) {
+                assertEquals(kind.getColumns(), CatalogueReader.readHeader(kind, input));
+            }
+        }
+    }
+
+    @Test
+    void open_ShouldLinkEveryTrackToGeneratedArtists() throws IOException {
+        // Given
+        SyntheticCatalogue catalogue = new SyntheticCatalogue(shape(5_000, 42));
+
+        // When
+        List<String> artists = rows(catalogue, CatalogueKind.ARTISTS);
+        List<String> tracks = rows(catalogue, CatalogueKind.TRACKS);
+        List<String> links = rows(catalogue, CatalogueKind.ARTIST_TRACKS);
+
+        // Then
+        assertEquals(5_000, artists.size());
+        Set<String> artistIds = new HashSet<>();
+        artists.forEach(row -> artistIds.add(row.substring(0, row.indexOf(','))));
+        assertEquals(5_000, artistIds.size());
+
+        Set<String> trackIds = new HashSet<>();
+        tracks.forEach(row -> trackIds.add(row.substring(0, row.indexOf(','))));
+        assertEquals(tracks.size(), trackIds.size());
+
+        Set<String> primaryLinks = new HashSet<>();
+        int collaborations = 0;
+        for (String link : links) {
+            String[] columns = link.split(",");
+            assertTrue(artistIds.contains(columns[0]), link);
+            assertTrue(trackIds.contains(columns[1]), link);
+            // syn-t<artist>-<n> belongs to syn-a<artist>
+            if (columns[1].startsWith("syn-t" + columns[0].substring("syn-a".length()) + "-")) {
+                primaryLinks.add(columns[1]);
+            } else {
+                collaborations++;
+            }
+        }
+        assertEquals(trackIds, primaryLinks);
+        assertTrue(collaborations > 0);
+    }
+
+    @Test
+    void open_ShouldSkewTracksPerArtist() throws IOException {
+        // Given
+        SyntheticCatalogue catalogue = new SyntheticCatalogue(shape(20_000, 42));
+
+        // When
+        Map<String, Integer> tracksPerArtist = new HashMap<>();
+        for (String track : rows(catalogue, CatalogueKind.TRACKS)) {
+            String externalId = track.substring(0, track.indexOf(','));
+            tracksPerArtist.merge(externalId.substring(0, externalId.lastIndexOf('-')), 1, Integer::sum);
+        }
+
+        // Then
+        int[] counts = tracksPerArtist.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+        assertEquals(20_000, counts.length);
+        assertEquals(1, counts[counts.length / 2]);
+        assertTrue(counts[counts.length - 1] > 100, "busiest artist has " + counts[counts.length - 1]);
+        int total = Arrays.stream(counts).sum();
+        assertEquals(catalogue.expectedTracks(), total, catalogue.expectedTracks() * 0.2);
+    }
+
+    @Test
+    void constructor_ShouldRejectEmptyCatalogue() {
+        assertThrows(RuntimeException.class, () -> new SyntheticCatalogue(shape(0, 42)));
+    }
+
+    private SyntheticCatalogue.Shape shape(int artists, long seed) {
+        SyntheticCatalogue.Shape shape = new SyntheticCatalogue.Shape();
+        shape.setArtists(artists);
+        shape.setSeed(seed);
+        return shape;
+    }
+
+    private byte[] read(SyntheticCatalogue catalogue, CatalogueKind kind) throws IOException {
+        try (InputStream input = catalogue.open(kind)) {
+            return input.readAllBytes();
+        }
+    }
+
+    // Data rows, without the header; names and descriptions never contain line breaks
+    private List<String> rows(SyntheticCatalogue catalogue, CatalogueKind kind) throws IOException {
+        List<String> lines = new String(read(catalogue, kind), StandardCharsets.UTF_8).lines().toList();
+        return lines.subList(1, lines.size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.ice.registration.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionPermitDataSourceTest {
+
+    @Test
+    void getConnection_HoldsPermitUntilClosed() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(target, 1, Duration.ofMillis(10));
+
+        // When
+        Connection connection = dataSource.getConnection();
+        int availableWhileOpen = dataSource.getAvailablePermits();
+        connection.close();
+        connection.close();
+
+        // Then
+        assertEquals(0, availableWhileOpen);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_NoPermitWithinTimeout_Throws() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(target, 1, Duration.ofMillis(10));
+
+        // When
+        try (Connection held = dataSource.getConnection()) {
+            // Then
+            assertThrows(ConnectionPermitTimeoutException.class, dataSource::getConnection);
+            verify(target, times(1)).getConnection();
+        }
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_TargetFails_ReleasesPermit() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(target, 1, Duration.ofMillis(10));
+
+        // When
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        // Then
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,212 @@
+package com.ice.registration.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes against two separate in-memory H2 databases, each holding a marker row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), meterRegistry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        ReadYourWrites.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.reset();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRouteToReplica() {
+        // When
+        String served = readOnlyTransaction.execute(status -> marker());
+
+        // Then
+        assertEquals("replica", served);
+        assertEquals(1.0, routingCount("replica", "read"));
+    }
+
+    @Test
+    void writeTransaction_ShouldRouteToPrimary() {
+        // When
+        String served = writeTransaction.execute(status -> marker());
+
+        // Then
+        assertEquals("primary", served);
+        assertEquals(1.0, routingCount("primary", "write"));
+    }
+
+    @Test
+    void readAfterWrite_ShouldStayOnPrimaryUntilRequestEnds() {
+        // Given
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = 'primary-updated'"));
+
+        // When
+        String sameRequest = readOnlyTransaction.execute(status -> marker());
+        ReadYourWrites.reset(); // What ReadYourWritesFilter does when the request completes
+        String nextRequest = readOnlyTransaction.execute(status -> marker());
+
+        // Then
+        assertEquals("primary-updated", sameRequest);
+        assertEquals("replica", nextRequest);
+        assertEquals(1.0, routingCount("primary", "read-your-writes"));
+    }
+
+    @Test
+    void readInLaterRequest_ShouldStayOnPrimaryWhileWriteMarkerIsFresh() throws Exception {
+        // Given
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T12:00:00Z"), ZoneOffset.UTC);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter(clock).doFilter(new MockHttpServletRequest(), writeResponse, (request, response) -> writeTransaction
+                .executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = 'primary-updated'")));
+        Cookie writtenAt = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(writtenAt);
+        assertEquals(15, writtenAt.getMaxAge());
+
+        // When
+        String withinWindow = readInRequest(filter(Clock.offset(clock, Duration.ofSeconds(14))), writtenAt);
+        String afterWindow = readInRequest(filter(Clock.offset(clock, Duration.ofSeconds(15))), writtenAt);
+        String withoutMarker = readInRequest(filter(clock), null);
+
+        // Then
+        assertEquals("primary-updated", withinWindow);
+        assertEquals("replica", afterWindow);
+        assertEquals("replica", withoutMarker);
+    }
+
+    @Test
+    void readOnlyRequest_ShouldNotSetWriteMarker() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(Clock.systemUTC()).doFilter(new MockHttpServletRequest(), response,
+                (servletRequest, servletResponse) -> readOnlyTransaction.execute(status -> marker()));
+
+        // Then
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void unhealthyReplica_ShouldFallBackToPrimary() {
+        // Given
+        routingDataSource.setHealthy("replica-0", false);
+
+        // When
+        String served = readOnlyTransaction.execute(status -> marker());
+
+        // Then
+        assertEquals("primary", served);
+        assertEquals(1.0, routingCount("primary", "no-healthy-replica"));
+        assertEquals(0.0, meterRegistry.get("ice.datasource.replicas.healthy").gauge().value());
+    }
+
+    @Test
+    void healthCheck_ShouldTakeUnreachableReplicaOutOfRotationAndBringItBack() {
+        // Given
+        DriverManagerDataSource flakyReplica = new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", "");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                database("primary"), List.of(flakyReplica), new SimpleMeterRegistry());
+        ReplicaHealthIndicator healthIndicator = new ReplicaHealthIndicator(routing, new ReplicaDataSourceProperties());
+
+        // When
+        healthIndicator.checkReplicas();
+
+        // Then
+        assertFalse(routing.isHealthy("replica-0"));
+        assertEquals(0, healthIndicator.health().getDetails().get("healthyReplicas"));
+
+        // When
+        flakyReplica.setUrl("jdbc:h2:mem:routing_replica");
+        healthIndicator.checkReplicas();
+
+        // Then
+        assertTrue(routing.isHealthy("replica-0"));
+        assertEquals("UP", healthIndicator.health().getDetails().get("replica-0"));
+    }
+
+    @Test
+    void healthCheck_ShouldTakeLaggingReplicaOutOfRotation() {
+        // Given
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setLagQuery("SELECT 30");
+        ReplicaHealthIndicator healthIndicator = new ReplicaHealthIndicator(routingDataSource, properties);
+
+        // When
+        healthIndicator.checkReplicas();
+
+        // Then
+        assertFalse(routingDataSource.isHealthy("replica-0"));
+    }
+
+    private static ReadYourWritesFilter filter(Clock clock) {
+        return new ReadYourWritesFilter(Duration.ofSeconds(15), clock);
+    }
+
+    private String readInRequest(ReadYourWritesFilter filter, Cookie writtenAt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (writtenAt != null) {
+            request.setCookies(writtenAt);
+        }
+        String[] served = new String[1];
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> served[0] = readOnlyTransaction.execute(status -> marker()));
+        return served[0];
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.get("ice.datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(32))");
+        jdbc.update("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
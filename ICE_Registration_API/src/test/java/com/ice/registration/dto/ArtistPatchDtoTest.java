@@ -0,0 +1,59 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtistPatchDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void fromMergePatch_AbsentMembersAreLeftAlone() throws Exception {
+        // When
+        ArtistPatchDto patch = ArtistPatchDto.fromMergePatch(json("{\"name\": \"  Mild Rage  \"}"));
+
+        // Then
+        assertEquals("Mild Rage", patch.getName());
+        assertFalse(patch.isDescriptionPresent());
+        assertFalse(patch.isPhotoPresent());
+    }
+
+    @Test
+    void fromMergePatch_NullRemovesDescriptionAndPhoto() throws Exception {
+        // When
+        ArtistPatchDto patch = ArtistPatchDto.fromMergePatch(json("{\"description\": null, \"photo\": \"photo.jpg\"}"));
+
+        // Then
+        assertNull(patch.getName());
+        assertTrue(patch.isDescriptionPresent());
+        assertNull(patch.getDescription());
+        assertTrue(patch.isPhotoPresent());
+        assertEquals("photo.jpg", patch.getPhoto());
+    }
+
+    @Test
+    void fromMergePatch_EmptyObjectChangesNothing() throws Exception {
+        assertTrue(ArtistPatchDto.fromMergePatch(json("{}")).isEmpty());
+        assertFalse(ArtistPatchDto.fromMergePatch(json("{\"photo\": null}")).isEmpty());
+    }
+
+    @Test
+    void fromMergePatch_RejectsRemovingTheName() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> ArtistPatchDto.fromMergePatch(json("{\"name\": null}")));
+        assertThrows(IllegalArgumentException.class, () -> ArtistPatchDto.fromMergePatch(json("{\"name\": \"  \"}")));
+    }
+
+    @Test
+    void fromMergePatch_RejectsReadOnlyAndNonStringMembers() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> ArtistPatchDto.fromMergePatch(json("{\"trackCount\": 3}")));
+        assertThrows(IllegalArgumentException.class, () -> ArtistPatchDto.fromMergePatch(json("{\"description\": 3}")));
+        assertThrows(IllegalArgumentException.class, () -> ArtistPatchDto.fromMergePatch(json("[]")));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
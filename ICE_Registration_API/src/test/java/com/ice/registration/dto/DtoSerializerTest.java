@@ -0,0 +1,124 @@
+package com.ice.registration.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ice.registration.entity.Track;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoSerializerTest {
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper handwrittenMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+
+    @BeforeEach
+    void setUp() {
+        reflectiveMapper = new ObjectMapper();
+        handwrittenMapper = new ObjectMapper().registerModule(handwrittenSerializers());
+        cborMapper = new ObjectMapper(new CBORFactory()).registerModule(handwrittenSerializers());
+        smileMapper = new ObjectMapper(new SmileFactory()).registerModule(handwrittenSerializers());
+    }
+
+    private static SimpleModule handwrittenSerializers() {
+        return new SimpleModule()
+                .addSerializer(ArtistDto.class, new ArtistDtoSerializer())
+                .addSerializer(TrackDto.class, new TrackDtoSerializer());
+    }
+
+    @Test
+    void trackDtoSerializer_MatchesDefaultOutput() throws Exception {
+        // Given
+        TrackDto full = new TrackDto(1, "Bohemian \"Rhapsody\"", "Rock", 355, "5:55");
+        full.setGenreId(1);
+        full.setArtistIds(Arrays.asList(1, 2));
+        TrackDto sparse = new TrackDto(2, null, null, null, "0:00");
+        List<TrackDto> tracks = Arrays.asList(full, sparse);
+
+        // When
+        String expected = reflectiveMapper.writeValueAsString(tracks);
+        String actual = handwrittenMapper.writeValueAsString(tracks);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void artistDtoSerializer_MatchesDefaultOutputWithoutVersion() throws Exception {
+        // Given
+        ArtistDto full = new ArtistDto(1, "Queen", "queen.jpg", "British rock band", 3, 7);
+        ArtistDto sparse = new ArtistDto(2, "Unknown", null, null, 0, 0);
+        List<ArtistDto> artists = Arrays.asList(full, sparse);
+
+        // When
+        String expected = reflectiveMapper.writeValueAsString(artists);
+        String actual = handwrittenMapper.writeValueAsString(artists);
+
+        // Then
+        assertEquals(expected, actual);
+        assertFalse(actual.contains("version"));
+    }
+
+    @Test
+    void binaryFormats_DecodeToSameTreeAsJson() throws Exception {
+        // Given
+        TrackDto full = new TrackDto(1, "Bohemian \"Rhapsody\"", "Rock", 355, "5:55");
+        full.setGenreId(1);
+        full.setArtistIds(Arrays.asList(1, 2));
+        List<Object> payload = Arrays.asList(
+                Arrays.asList(full, new TrackDto(2, null, null, null, "0:00")),
+                Arrays.asList(new ArtistDto(1, "Queen", "queen.jpg", "British rock band", 3, 7)),
+                Arrays.asList(new GenreDto(1, "Rock")));
+
+        // When
+        JsonNode expected = handwrittenMapper.readTree(handwrittenMapper.writeValueAsBytes(payload));
+        JsonNode cbor = cborMapper.readTree(cborMapper.writeValueAsBytes(payload));
+        JsonNode smile = smileMapper.readTree(smileMapper.writeValueAsBytes(payload));
+
+        // Then
+        assertEquals(expected, cbor);
+        assertEquals(expected, smile);
+    }
+
+    @Test
+    void binaryFormats_SmallerThanJsonForLargeLists() throws Exception {
+        // Given
+        List<TrackDto> tracks = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            tracks.add(new TrackDto(i, "Track " + i, "Rock", 180 + i % 120));
+        }
+
+        // When
+        int json = handwrittenMapper.writeValueAsBytes(tracks).length;
+        int cbor = cborMapper.writeValueAsBytes(tracks).length;
+        int smile = smileMapper.writeValueAsBytes(tracks).length;
+
+        // Then
+        assertTrue(cbor < json * 0.8, "CBOR " + cbor + " bytes, JSON " + json);
+        assertTrue(smile < json * 0.5, "Smile " + smile + " bytes, JSON " + json);
+    }
+
+    @Test
+    void formattedLength_MatchesStringFormat() {
+        // Given
+        int[] lengths = {0, 5, 59, 60, 61, 355, 5999, 6000, 36125, -5, -65};
+
+        for (int length : lengths) {
+            // When
+            String formatted = new Track("Track", null, length).getFormattedLength();
+
+            // Then
+            assertEquals(String.format("%d:%02d", length / 60, length % 60), formatted);
+        }
+    }
+}
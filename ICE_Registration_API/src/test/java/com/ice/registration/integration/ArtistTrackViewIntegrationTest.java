@@ -0,0 +1,119 @@
+package com.ice.registration.integration;
+
+import com.ice.registration.dto.TrackDto;
+import com.ice.registration.repository.ArtistTrackViewRepository;
+import com.ice.registration.service.ArtistTrackViewService;
+import com.ice.registration.service.TrackService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The artist_track_view read model against the real schema: the writes that change its sources
+ * keep it current, and a rebuild derives exactly the rows the incremental updates produced.
+ * Each test rolls back.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+@Transactional
+class ArtistTrackViewIntegrationTest {
+
+    @Autowired
+    private TrackService trackService;
+
+    @Autowired
+    private ArtistTrackViewService artistTrackViewService;
+
+    @Autowired
+    private ArtistTrackViewRepository artistTrackViewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createTrack_AddsOneRowPerArtist() {
+        // Given
+        TrackDto trackDto = new TrackDto();
+        trackDto.setTitle("Shared Single");
+        trackDto.setGenreId(3);
+        trackDto.setLengthSeconds(65);
+        trackDto.setArtistIds(Arrays.asList(1, 3));
+
+        // When
+        TrackDto created = trackService.createTrack(trackDto);
+
+        // Then
+        for (Integer artistId : List.of(1, 3)) {
+            TrackDto row = trackService.getTracksByArtistId(artistId).stream()
+                    .filter(track -> track.getId().equals(created.getId())).findFirst().orElseThrow();
+            assertEquals("Shared Single", row.getTitle());
+            assertEquals("Metal", row.getGenre());
+            assertEquals(65, row.getLengthSeconds());
+            assertEquals("1:05", row.getFormattedLength());
+        }
+        assertTrue(trackService.getTracksByArtistId(2).stream().noneMatch(track -> track.getId().equals(created.getId())));
+    }
+
+    @Test
+    void createTracks_AddsRowsForTheWholeBatch() {
+        // Given
+        TrackDto first = new TrackDto();
+        first.setTitle("Batch Opener");
+        first.setGenreId(1);
+        first.setArtistIds(List.of(2));
+        TrackDto second = new TrackDto();
+        second.setTitle("Batch Closer");
+        second.setGenreId(2);
+        second.setLengthSeconds(3600);
+        second.setArtistIds(List.of(2));
+
+        // When
+        trackService.createTracks(Arrays.asList(first, second));
+
+        // Then
+        List<TrackDto> tracks = trackService.getTracksByArtistId(2);
+        TrackDto opener = tracks.get(tracks.size() - 2);
+        TrackDto closer = tracks.get(tracks.size() - 1);
+        assertEquals("Batch Opener", opener.getTitle());
+        assertEquals("0:00", opener.getFormattedLength()); // No length, as Track.getFormattedLength
+        assertEquals("Batch Closer", closer.getTitle());
+        assertEquals("60:00", closer.getFormattedLength());
+    }
+
+    @Test
+    void rebuild_ReproducesIncrementallyMaintainedRows() {
+        // Given
+        TrackDto trackDto = new TrackDto();
+        trackDto.setTitle("Before Rebuild");
+        trackDto.setGenreId(1);
+        trackDto.setLengthSeconds(599);
+        trackDto.setArtistIds(List.of(1));
+        trackService.createTrack(trackDto);
+        List<Map<String, Object>> incremental = allRows();
+
+        // When
+        int rows = artistTrackViewService.rebuild();
+
+        // Then
+        assertEquals(incremental.size(), rows);
+        assertEquals(incremental, allRows());
+    }
+
+    @Test
+    void findByArtistId_EmptyForUnknownArtist() {
+        assertTrue(artistTrackViewRepository.findByArtistId(999).isEmpty());
+    }
+
+    private List<Map<String, Object>> allRows() {
+        return jdbcTemplate.queryForList("SELECT * FROM artist_track_view ORDER BY artist_id, track_id");
+    }
+}
@@ -0,0 +1,77 @@
+package com.ice.registration.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Cross-origin access for the UI, as configured by the controllers' {@code @CrossOrigin}.
+ * Each handler method's HTTP method is allowed, so PATCH needs no separate configuration, and
+ * the ETag is exposed so the UI can send it back in If-Match. Credentials are allowed, so the UI
+ * sends back the cookie that keeps its reads on the primary after a write.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+class CorsIntegrationTest {
+
+    private static final String UI_ORIGIN = "http://localhost:3000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void patchArtist_PreflightFromUiIsAllowed() throws Exception {
+        MvcResult result = mockMvc.perform(options("/api/artists/1")
+                        .header(HttpHeaders.ORIGIN, UI_ORIGIN)
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type, if-match"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(UI_ORIGIN, result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS).contains("PATCH"));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS).contains("if-match"));
+        assertEquals("true", result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS));
+    }
+
+    @Test
+    void getArtist_ExposesETagToUi() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/1").header(HttpHeaders.ORIGIN, UI_ORIGIN)).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(UI_ORIGIN, result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS).contains(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void createTrack_CredentialedRequestFromUiIsAllowed() throws Exception {
+        MvcResult result = mockMvc.perform(options("/api/tracks")
+                        .header(HttpHeaders.ORIGIN, UI_ORIGIN)
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(UI_ORIGIN, result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals("true", result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS));
+    }
+
+    @Test
+    void patchArtist_PreflightFromOtherOriginIsRejected() throws Exception {
+        MvcResult result = mockMvc.perform(options("/api/artists/1")
+                        .header(HttpHeaders.ORIGIN, "http://elsewhere.example")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH"))
+                .andReturn();
+
+        assertEquals(403, result.getResponse().getStatus());
+    }
+}
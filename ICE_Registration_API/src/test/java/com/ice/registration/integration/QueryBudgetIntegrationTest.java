@@ -0,0 +1,328 @@
+package com.ice.registration.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ice.registration.cache.SecondLevelCacheEvictor;
+import com.ice.registration.dto.TrackDto;
+import com.ice.registration.service.ArtistService;
+import com.ice.registration.service.GenreService;
+import com.ice.registration.service.TrackService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static com.ice.registration.integration.QueryCountAssertions.assertEntitiesLoaded;
+import static com.ice.registration.integration.QueryCountAssertions.assertStatements;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Statement budgets for every endpoint, run against the real JPA stack with open-in-view off. A mapping or
+ * query change that adds round trips (lazy loading, per-row lookups) fails here.
+ * The genre snapshot and featured artist caches are warmed first, so the budgets
+ * are for the steady state; the second-level cache is emptied, so reads are budgeted cold.
+ * Artists are not in the second-level cache, so every artist read costs its query. Statements are counted on the DataSource, so those sent
+ * through JdbcTemplate (track lists, batch writes, the export) are included. PATCH is a PostgreSQL
+ * UPDATE ... RETURNING that H2 does not run; its budget is in {@link QueryPlanIntegrationTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private TrackService trackService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        genreService.getSnapshot();
+        artistService.getFeaturedArtist();
+        secondLevelCacheEvictor.evictAll();
+    }
+
+    @Test
+    void getAllArtists_OneQueryPerPage() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists").param("limit", "3")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(1, result);
+        assertEntitiesLoaded(0, result);
+    }
+
+    @Test
+    void getArtistById_OneProjectionQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/1")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains("\"name\":\"Generic Indie Landfill Band\""));
+        assertStatements(1, result); // The version comes with the artist
+        assertEntitiesLoaded(0, result); // Projected
+    }
+
+    @Test
+    void getArtistById_NotModified_OneQuery() throws Exception {
+        String eTag = mockMvc.perform(get("/api/artists/1")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get("/api/artists/1").header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+
+        assertEquals(304, result.getResponse().getStatus());
+        assertStatements(1, result);
+    }
+
+    @Test
+    void getArtistById_StaleETag_VersionThenProjectionQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/1").header(HttpHeaders.IF_NONE_MATCH, "\"999\"")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(2, result);
+    }
+
+    @Test
+    void getArtistById_SeesChangesMadeOutsideThisInstance() throws Exception {
+        String eTag = mockMvc.perform(get("/api/artists/3")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // As another instance or the command-line import would
+        jdbcTemplate.update("UPDATE artist SET description = 'Changed elsewhere', version = version + 1 WHERE id = 3");
+
+        MvcResult changed = mockMvc.perform(get("/api/artists/3").header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+        String currentETag = changed.getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult updated = mockMvc.perform(put("/api/artists/3")
+                        .header(HttpHeaders.IF_MATCH, currentETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"photo\":\"https://example.com/current.jpg\"}"))
+                .andReturn();
+
+        assertEquals(200, changed.getResponse().getStatus());
+        assertTrue(changed.getResponse().getContentAsString().contains("\"description\":\"Changed elsewhere\""));
+        assertNotEquals(eTag, currentETag);
+        assertEquals(200, updated.getResponse().getStatus());
+    }
+
+    @Test
+    void getArtistById_CborHasItsOwnETag() throws Exception {
+        String jsonETag = mockMvc.perform(get("/api/artists/1")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult cbor = mockMvc.perform(get("/api/artists/1").accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonETag)).andReturn();
+        String cborETag = cbor.getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult notModified = mockMvc.perform(get("/api/artists/1").accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cborETag)).andReturn();
+
+        assertEquals(200, cbor.getResponse().getStatus());
+        assertEquals(jsonETag.replace("\"", "") + "+cbor", cborETag.replace("\"", ""));
+        assertEquals(304, notModified.getResponse().getStatus());
+    }
+
+    @Test
+    void getFeaturedArtist_ServedFromCache() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/featured")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(0, result);
+    }
+
+    @Test
+    void getArtistTracks_VersionAndViewQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/1/tracks")).andReturn();
+
+        String tracks = result.getResponse().getContentAsString();
+        assertEquals(200, result.getResponse().getStatus());
+        assertTrue(tracks.startsWith("[{\"id\":1,\"title\":\"Coffee and Rain\",\"genre\":\"Indie Rock\""), tracks);
+        assertTrue(tracks.contains("\"formattedLength\":\"3:34\""), tracks);
+        assertStatements(2, result); // The artist's version, then its rows in artist_track_view
+        assertEntitiesLoaded(0, result); // No Artist, Track or Genre entities
+    }
+
+    @Test
+    void getArtistTracks_Cbor_SameQueriesAsJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/artists/1/tracks").accept(MediaType.APPLICATION_CBOR)).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, result.getResponse().getContentType());
+        assertTrue(result.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.ETAG).endsWith("+cbor\""));
+        JsonNode tracks = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Coffee and Rain", tracks.get(0).get("title").asText());
+        assertStatements(2, result);
+    }
+
+    @Test
+    void getGenres_ServedFromSnapshot() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/genres")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(0, result);
+    }
+
+    @Test
+    void updateArtist_WithIfMatch_ConditionalUpdateAndReload() throws Exception {
+        String eTag = mockMvc.perform(get("/api/artists/3")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(put("/api/artists/3")
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Updated with If-Match\"}"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(2, result); // The conditional UPDATE, then the reload
+    }
+
+    @Test
+    void updateArtist_LaterReadsSeeBothUpdates() throws Exception {
+        String eTag = mockMvc.perform(get("/api/artists/2")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/artists/2")
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Updated twice\"}"))
+                .andReturn();
+        mockMvc.perform(put("/api/artists/2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"photo\":\"https://example.com/second.jpg\"}"))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(get("/api/artists/2")).andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"description\":\"Updated twice\""));
+        assertTrue(result.getResponse().getContentAsString().contains("\"photo\":\"https://example.com/second.jpg\""));
+        assertNotEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void updateArtist_WithoutIfMatch_LoadAndUpdate() throws Exception {
+        MvcResult result = mockMvc.perform(put("/api/artists/2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Updated without If-Match\"}"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(2, result);
+    }
+
+    @Test
+    void createTrack_ConstantStatementsRegardlessOfArtistCount() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Budget Track\",\"genreId\":1,\"lengthSeconds\":180,\"artistIds\":[1,2,3]}"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertStatements(5, result); // Artists, track, links, counts and view rows, one statement each
+    }
+
+    @Test
+    void createTrack_LaterReadsSeeTrackAndCount() throws Exception {
+        mockMvc.perform(get("/api/artists/2/tracks")).andReturn();
+        int trackCount = artistService.getArtistById(2).orElseThrow().getTrackCount();
+
+        mockMvc.perform(post("/api/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Cache Buster\",\"genreId\":1,\"lengthSeconds\":180,\"artistIds\":[2]}"))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(get("/api/artists/2/tracks")).andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"title\":\"Cache Buster\""));
+        assertEquals(trackCount + 1, artistService.getArtistById(2).orElseThrow().getTrackCount());
+    }
+
+    @Test
+    void createTracks_ConstantStatementsRegardlessOfBatchSize() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"Batch A\",\"genreId\":1,\"lengthSeconds\":120,\"artistIds\":[2]},"
+                                + "{\"title\":\"Batch B\",\"genreId\":2,\"lengthSeconds\":240,\"artistIds\":[2,3]}]"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains("\"errors\":[]"));
+        // Artist check, id allocation, then one batch each for tracks, links, counts and view rows
+        assertStatements(6, result);
+    }
+
+    @Test
+    void createTracks_JdbcStatementsRecordedInRequestMetric() throws Exception {
+        mockMvc.perform(post("/api/tracks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"Metered\",\"genreId\":1,\"lengthSeconds\":120,\"artistIds\":[3]}]"))
+                .andReturn();
+
+        DistributionSummary statements = meterRegistry.get("ice.request.statements")
+                .tag("method", "POST").tag("uri", "/api/tracks/batch").summary();
+        assertEquals(6.0, statements.max());
+    }
+
+    @Test
+    void search_ServedFromIndex() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/search").param("q", "mild rag")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains("\"name\":\"Mild Rage\""));
+        assertStatements(0, result);
+    }
+
+    @Test
+    void search_FindsTrackOnceItsCreationCommits() throws Exception {
+        mockMvc.perform(post("/api/tracks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Searchable Anthem\",\"genreId\":1,\"lengthSeconds\":180,\"artistIds\":[1]}"))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(get("/api/search").param("q", "anthe")).andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"title\":\"Searchable Anthem\""));
+        assertStatements(0, result);
+    }
+
+    @Test
+    void export_StreamsEveryArtistWithTracks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/export")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("application/x-ndjson;charset=UTF-8", result.getResponse().getContentType());
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(artistService.getAllArtists(null, 100).getArtists().size(), lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":1,\"name\":\"Generic Indie Landfill Band\""));
+        assertTrue(lines.get(0).contains("\"tracks\":[{\"id\":1,\"title\":\"Coffee and Rain\",\"genre\":\"Indie Rock\""));
+        assertStatements(2, result); // The artist cursor and one batch of their tracks
+    }
+
+    @Test
+    void getTracksByArtistId_OneViewQuery() {
+        List<TrackDto> tracks = assertStatements(1, () -> trackService.getTracksByArtistId(1));
+
+        assertFalse(tracks.isEmpty());
+        assertEquals("Indie Rock", tracks.get(0).getGenre());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ice.registration.integration;
+
+import com.ice.registration.metrics.QueryCounter;
+import com.ice.registration.metrics.RequestMetricsInterceptor;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets for integration tests. Counts come from the same DataSource
+ * wrapper that feeds the {@code ice.request.statements} metric, so statements sent
+ * through Hibernate and through JdbcTemplate are counted alike.
+ */
+final class QueryCountAssertions {
+
+    private QueryCountAssertions() {}
+
+    /**
+     * Asserts the number of statements the request behind {@code result} issued.
+     */
+    static MvcResult assertStatements(int expected, MvcResult result) {
+        QueryCounter.Counts counts = (QueryCounter.Counts) result.getRequest()
+                .getAttribute(RequestMetricsInterceptor.COUNTS_ATTRIBUTE);
+        assertNotNull(counts, "Request was not handled by a controller method");
+        assertEquals(expected, counts.getStatements(),
+                () -> "Statements issued by " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI());
+        return result;
+    }
+
+    /**
+     * Asserts the number of entities Hibernate hydrated for the request behind {@code result}.
+     */
+    static MvcResult assertEntitiesLoaded(int expected, MvcResult result) {
+        QueryCounter.Counts counts = (QueryCounter.Counts) result.getRequest()
+                .getAttribute(RequestMetricsInterceptor.COUNTS_ATTRIBUTE);
+        assertNotNull(counts, "Request was not handled by a controller method");
+        assertEquals(expected, counts.getEntitiesLoaded(),
+                () -> "Entities loaded by " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI());
+        return result;
+    }
+
+    /**
+     * Runs {@code action} on the calling thread and asserts the number of statements it issued.
+     */
+    static <T> T assertStatements(int expected, Supplier<T> action) {
+        QueryCounter.start();
+        T value;
+        QueryCounter.Counts counts;
+        try {
+            value = action.get();
+        } finally {
+            counts = QueryCounter.stop();
+        }
+        assertEquals(expected, counts.getStatements(), "Statements issued");
+        return value;
+    }
+}
@@ -0,0 +1,362 @@
+package com.ice.registration.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.cache.SecondLevelCacheEvictor;
+import com.ice.registration.catalogue.CatalogueFormat;
+import com.ice.registration.catalogue.CatalogueImportService;
+import com.ice.registration.catalogue.CatalogueKind;
+import com.ice.registration.catalogue.SyntheticCatalogue;
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPatchDto;
+import com.ice.registration.entity.Artist;
+import com.ice.registration.entity.Track;
+import com.ice.registration.repository.ArtistRepository;
+import com.ice.registration.repository.ArtistTrackViewRepository;
+import com.ice.registration.repository.TrackRepository;
+import com.ice.registration.service.ArtistService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.ice.registration.integration.QueryCountAssertions.assertStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Access-path checks for the artist and track repository queries, run against PostgreSQL with a
+ * generated catalogue. Each query is run for real, every statement it sends is recorded, and its
+ * generic plan (the one a prepared statement settles on) must not scan a catalogue table
+ * sequentially. A dropped index, or a query change the indexes no longer serve, fails here. Statement
+ * budgets for the PostgreSQL-only statements that H2 cannot run are kept here too.
+ *
+ * Needs Docker; skipped when it is not available.
+ */
+@SpringBootTest(properties = "ice.search.build-on-startup=false")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIntegrationTest {
+
+    // Small lookup tables (genre, featured rotation) are cheaper to scan and are not checked
+    private static final Set<String> CATALOGUE_TABLES = Set.of("artist", "track", "artist_track", "artist_track_view");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private CatalogueImportService importService;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private ArtistTrackViewRepository artistTrackViewRepository;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingDataSource recordingDataSource;
+
+    @Autowired
+    private JdbcConnectionDetails connectionDetails;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // EXPLAIN with $n placeholders and no values only gets through the simple query protocol
+    private JdbcTemplate explainJdbcTemplate;
+
+    private int artistId;
+    private int trackId;
+    private int otherArtistsTrackId;
+
+    @BeforeAll
+    void loadCatalogue() throws IOException {
+        SyntheticCatalogue.Shape shape = new SyntheticCatalogue.Shape();
+        shape.setArtists(20_000);
+        SyntheticCatalogue catalogue = new SyntheticCatalogue(shape);
+        for (CatalogueKind kind : CatalogueKind.values()) {
+            try (InputStream input = catalogue.open(kind)) {
+                importService.importCatalogue(kind, CatalogueFormat.CSV, input);
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        artistId = jdbcTemplate.queryForObject("SELECT id FROM artist WHERE external_id = 'syn-a1000'", Integer.class);
+        trackId = jdbcTemplate.queryForObject("SELECT id FROM track WHERE external_id = 'syn-t1000-1'", Integer.class);
+        otherArtistsTrackId = jdbcTemplate.queryForObject("SELECT id FROM track WHERE external_id = 'syn-t2000-1'", Integer.class);
+
+        DriverManagerDataSource explainDataSource = new DriverManagerDataSource(
+                connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword());
+        Properties properties = new Properties();
+        properties.setProperty("preferQueryMode", "simple");
+        explainDataSource.setConnectionProperties(properties);
+        explainJdbcTemplate = new JdbcTemplate(explainDataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        secondLevelCacheEvictor.evictAll();
+    }
+
+    @Test
+    void artistRepository_PageAfter() {
+        assertNoSequentialScans(() -> artistRepository.findPageAfter(artistId, Limit.of(51)));
+    }
+
+    @Test
+    void artistRepository_MaxId() {
+        assertNoSequentialScans(() -> artistRepository.findMaxId());
+    }
+
+    @Test
+    void artistRepository_DtoAndVersionById() {
+        assertNoSequentialScans(() -> {
+            artistRepository.findDtoById(artistId);
+            artistRepository.findVersionById(artistId);
+        });
+    }
+
+    @Test
+    void artistRepository_FindByIdWithTracks() {
+        assertNoSequentialScans(() -> {
+            Artist artist = artistRepository.findById(artistId).orElseThrow();
+            artist.getTracks().forEach(track -> track.getGenre().getDescription());
+        });
+    }
+
+    @Test
+    void artistRepository_Writes() {
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setName("Patched");
+        patch.setDescriptionPresent(true);
+        assertNoSequentialScans(() -> {
+            long version = artistRepository.findVersionById(artistId).orElseThrow();
+            artistRepository.updateIfVersionMatches(artistId, "Renamed", null, null, version);
+            artistRepository.patch(artistId, patch, version + 1);
+            artistRepository.addTrack(List.of(artistId), otherArtistsTrackId);
+            artistRepository.incrementTrackCount(List.of(artistId));
+        });
+    }
+
+    @Test
+    void artistService_PatchIsOneStatement() {
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setPhoto("https://example.com/patched.jpg");
+        patch.setPhotoPresent(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            long version = artistRepository.findVersionById(artistId).orElseThrow();
+            assertTrue(assertStatements(1, () -> artistService.patchArtist(artistId, patch, version)).isPresent());
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void artistService_PatchWithoutChanges_KeepsVersion() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ArtistDto current = artistRepository.findDtoById(artistId).orElseThrow();
+            ArtistPatchDto sameValues = new ArtistPatchDto();
+            sameValues.setName(current.getName());
+            sameValues.setDescription(current.getDescription());
+            sameValues.setDescriptionPresent(true);
+
+            ArtistDto afterEmpty = assertStatements(1, () -> artistService.patchArtist(artistId, new ArtistPatchDto(), current.getVersion())).orElseThrow();
+            ArtistDto afterSame = assertStatements(2, () -> artistService.patchArtist(artistId, sameValues, current.getVersion())).orElseThrow();
+
+            assertEquals(current.getVersion(), afterEmpty.getVersion());
+            assertEquals(current.getVersion(), afterSame.getVersion());
+            assertEquals(current.getVersion(), artistRepository.findVersionById(artistId).orElseThrow());
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void artistRepository_ReconcileTrackCountsBatch() {
+        assertNoSequentialScans(() -> artistRepository.reconcileTrackCounts(artistId, artistId + 1000));
+    }
+
+    @Test
+    void trackRepository_FindByArtistId() {
+        assertNoSequentialScans(() -> trackRepository.findByArtistId(artistId));
+    }
+
+    @Test
+    void trackRepository_FindByIdWithGenre() {
+        assertNoSequentialScans(() -> trackRepository.findByIdWithGenre(trackId));
+    }
+
+    @Test
+    void trackRepository_TrackArtists() {
+        assertNoSequentialScans(() -> {
+            Track track = trackRepository.findById(trackId).orElseThrow();
+            track.getArtists().size();
+        });
+    }
+
+    @Test
+    void artistTrackView_FindByArtistId() {
+        assertNoSequentialScans(() -> artistTrackViewRepository.findByArtistId(artistId));
+    }
+
+    @Test
+    void artistTrackView_Writes() {
+        assertNoSequentialScans(() -> {
+            artistRepository.addTrack(List.of(artistId), otherArtistsTrackId);
+            jdbcTemplate.update("DELETE FROM artist_track_view WHERE track_id = ?", otherArtistsTrackId);
+            artistTrackViewRepository.insertForTracks(List.of(otherArtistsTrackId));
+        });
+    }
+
+    /**
+     * Runs {@code queries} in a transaction that is rolled back, then explains every statement they sent.
+     */
+    private void assertNoSequentialScans(Runnable queries) {
+        recordingDataSource.getStatements().clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            queries.run();
+            status.setRollbackOnly();
+        });
+        List<String> statements = List.copyOf(recordingDataSource.getStatements());
+        assertFalse(statements.isEmpty(), "No statements were sent");
+
+        for (String sql : statements) {
+            JsonNode plan = explain(sql);
+            List<String> scanned = new ArrayList<>();
+            collectSequentialScans(plan, scanned);
+            assertTrue(scanned.isEmpty(), () -> "Sequential scan of " + scanned + " for:\n" + sql
+                    + "\nPlan:\n" + plan.toPrettyString());
+        }
+    }
+
+    private JsonNode explain(String sql) {
+        String json = explainJdbcTemplate.queryForObject("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(sql), String.class);
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (IOException e) {
+            throw new RuntimeException("Unreadable plan for " + sql, e);
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && CATALOGUE_TABLES.contains(node.path("Relation Name").asText())) {
+            scanned.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scanned);
+        }
+    }
+
+    // JDBC ? placeholders to the $n form EXPLAIN (GENERIC_PLAN) accepts; none of the queries has a ? in a literal
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    @TestConfiguration
+    static class StatementRecording {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)
+                            ? new RecordingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Keeps the SQL of every statement prepared on its connections.
+     */
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        List<String> getStatements() {
+            return statements;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("equals")) {
+                            return proxy == args[0];
+                        }
+                        if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                            statements.add(sql);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
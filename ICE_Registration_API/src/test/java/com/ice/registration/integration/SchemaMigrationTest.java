@@ -0,0 +1,80 @@
+package com.ice.registration.integration;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a database created by the old init scripts, which has the version 1 schema and data
+ * but no migration history, the way the API does on first start.
+ */
+class SchemaMigrationTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void initScriptDatabase_IsAdoptedAsVersionOneAndUpgraded() {
+        // Given
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO genre (description) VALUES ('Rock')");
+        jdbcTemplate.update("INSERT INTO artist (name) VALUES ('Existing Artist'), ('No Tracks')");
+        jdbcTemplate.update("INSERT INTO track (title, genre_id, length_seconds) VALUES ('One', 1, 61), ('Two', 1, 125)");
+        jdbcTemplate.update("INSERT INTO artist_track (artist_id, track_id) VALUES (1, 1), (1, 2)");
+
+        // When
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // Then
+        assertEquals(List.of("1", "2", "3", "4"), jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class));
+        assertEquals("BASELINE", jdbcTemplate.queryForObject(
+                "SELECT \"type\" FROM \"flyway_schema_history\" WHERE \"version\" = '1'", String.class));
+        assertEquals(List.of(2, 0), jdbcTemplate.queryForList(
+                "SELECT track_count FROM artist ORDER BY id", Integer.class));
+        assertEquals(List.of(0L, 0L), jdbcTemplate.queryForList(
+                "SELECT version FROM artist ORDER BY id", Long.class));
+        assertEquals(List.of("1:01", "2:05"), jdbcTemplate.queryForList(
+                "SELECT formatted_length FROM artist_track_view WHERE artist_id = 1 ORDER BY track_id", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM featured_rotation_state", Integer.class));
+    }
+
+    @Test
+    void emptyDatabase_RunsEveryMigration() {
+        // When
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // Then
+        assertEquals(List.of("1", "2", "3", "4"), jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM artist_track_view", Integer.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ice.registration.integration;
+
+import com.ice.registration.cache.SecondLevelCacheEvictor;
+import com.ice.registration.entity.Genre;
+import com.ice.registration.entity.Track;
+import com.ice.registration.repository.FeaturedRotationRepository;
+import com.ice.registration.repository.TrackRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * What the second-level cache holds after the writes that can touch it.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private FeaturedRotationRepository rotationRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        secondLevelCacheEvictor.evictAll();
+    }
+
+    @Test
+    void enrollNewArtists_LeavesUnrelatedRegionsCached() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> trackRepository.findByIdWithGenre(1).orElseThrow());
+        assertTrue(entityManagerFactory.getCache().contains(Track.class, 1));
+        assertTrue(entityManagerFactory.getCache().contains(Genre.class, 1));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            rotationRepository.enrollNewArtists(rotationRepository.findLastEnrolledArtistId());
+            rotationRepository.enrollMissedArtists();
+        });
+
+        // Then
+        assertTrue(entityManagerFactory.getCache().contains(Track.class, 1));
+        assertTrue(entityManagerFactory.getCache().contains(Genre.class, 1));
+    }
+}
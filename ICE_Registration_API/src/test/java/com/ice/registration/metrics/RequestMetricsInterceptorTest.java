@@ -0,0 +1,67 @@
+package com.ice.registration.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsInterceptor interceptor;
+    private HandlerMethod handler;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RequestMetricsInterceptor();
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+        handler = new HandlerMethod(this, RequestMetricsInterceptorTest.class.getDeclaredMethod("setUp"));
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:request-metrics;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2));
+    }
+
+    @Test
+    void afterCompletion_RecordsCountsPerEndpoint() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/artists/1/tracks");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/artists/{id}/tracks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, handler);
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+        new EntityLoadCountingInterceptor().onLoad(new Object(), (Object) 1, null, null, null);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        DistributionSummary statements = meterRegistry.get(RequestMetricsInterceptor.STATEMENTS)
+                .tag("method", "GET").tag("uri", "/api/artists/{id}/tracks").summary();
+        DistributionSummary entities = meterRegistry.get(RequestMetricsInterceptor.ENTITIES_LOADED)
+                .tag("uri", "/api/artists/{id}/tracks").summary();
+        assertEquals(1, statements.count());
+        assertEquals(2.0, statements.totalAmount());
+        assertEquals(1.0, entities.totalAmount());
+    }
+
+    @Test
+    void statementsOutsideRequest_AreNotCounted() {
+        // When
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        // Then
+        assertEquals(0, QueryCounter.current().getStatements());
+    }
+}
@@ -0,0 +1,73 @@
+package com.ice.registration.metrics;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counted (id INTEGER)");
+        jdbcTemplate.update("DELETE FROM counted");
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    void jdbcTemplateStatements_AreCounted() {
+        // When
+        QueryCounter.start();
+        jdbcTemplate.update("INSERT INTO counted (id) VALUES (?)", 1);
+        jdbcTemplate.queryForList("SELECT id FROM counted", Integer.class);
+        jdbcTemplate.execute("SELECT 1");
+
+        // Then
+        assertEquals(3, QueryCounter.current().getStatements());
+    }
+
+    @Test
+    void batch_CountsOnce() {
+        // When
+        QueryCounter.start();
+        jdbcTemplate.batchUpdate("INSERT INTO counted (id) VALUES (?)", List.of(new Object[] {1}, new Object[] {2}, new Object[] {3}));
+
+        // Then
+        assertEquals(1, QueryCounter.current().getStatements());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM counted", Integer.class));
+    }
+
+    @Test
+    void statementsOutsideRequest_AreNotCounted() {
+        // When
+        jdbcTemplate.queryForList("SELECT id FROM counted", Integer.class);
+
+        // Then
+        assertEquals(0, QueryCounter.current().getStatements());
+    }
+
+    @Test
+    void unwrap_ReachesDriverConnection() {
+        // When
+        Connection driverConnection = jdbcTemplate.execute((Connection con) -> con.unwrap(JdbcConnection.class));
+
+        // Then
+        assertNotNull(driverConnection);
+    }
+}
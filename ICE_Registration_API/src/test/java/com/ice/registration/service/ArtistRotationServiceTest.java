@@ -0,0 +1,179 @@
+package com.ice.registration.service;
+
+import com.ice.registration.entity.FeaturedRotationSlot;
+import com.ice.registration.entity.FeaturedRotationState;
+import com.ice.registration.repository.FeaturedRotationRepository;
+import com.ice.registration.repository.FeaturedRotationStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArtistRotationServiceTest {
+
+    @Mock
+    private FeaturedRotationRepository rotationRepository;
+
+    @Mock
+    private FeaturedRotationStateRepository stateRepository;
+
+    @InjectMocks
+    private ArtistRotationService artistRotationService;
+
+    private LocalDate cycleStart;
+    private FeaturedRotationState state;
+
+    @BeforeEach
+    void setUp() {
+        cycleStart = LocalDate.of(2025, 6, 1);
+        state = new FeaturedRotationState(cycleStart);
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldReturnSlotForDayOfCycle() {
+        // Given
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastSlot()).thenReturn(9); // 10 artists
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(3))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(3, 42)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(cycleStart.plusDays(3));
+
+        // Then
+        assertEquals(42, artistId);
+        assertEquals(cycleStart, state.getCycleStartDay()); // Still in the same cycle
+        verify(rotationRepository, times(1)).enrollNewArtists(0);
+        verify(rotationRepository, never()).enrollMissedArtists(); // No full scan within a cycle
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldOnlyEnrollArtistsAboveTheHighestEnrolledId() {
+        // Given
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastEnrolledArtistId()).thenReturn(300_000);
+        when(rotationRepository.findLastSlot()).thenReturn(9);
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(3))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(3, 42)));
+
+        // When
+        artistRotationService.getFeaturedArtistId(cycleStart.plusDays(3));
+
+        // Then
+        verify(rotationRepository, times(1)).enrollNewArtists(300_000);
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldRestartCycleAfterEveryArtistWasFeatured() {
+        // Given
+        LocalDate day = cycleStart.plusDays(10);
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastSlot()).thenReturn(9); // 10 artists, cycle is over
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(0))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(0, 7)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(day);
+
+        // Then
+        assertEquals(7, artistId); // First artist of the permutation again
+        assertEquals(day, state.getCycleStartDay());
+        verify(stateRepository, times(1)).save(state);
+        verify(rotationRepository, times(1)).enrollMissedArtists(); // Once per cycle
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldFeatureMissedArtistsBeforeRestartingCycle() {
+        // Given
+        LocalDate day = cycleStart.plusDays(10);
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastSlot()).thenReturn(9, 10); // One artist enrolled by the full scan
+        when(rotationRepository.enrollMissedArtists()).thenReturn(1);
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(10))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(10, 55)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(day);
+
+        // Then
+        assertEquals(55, artistId);
+        assertEquals(cycleStart, state.getCycleStartDay());
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldKeepAlignmentWhenDaysWereSkipped() {
+        // Given
+        LocalDate day = cycleStart.plusDays(23); // Nobody asked for 13 days past the cycle end
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastSlot()).thenReturn(9);
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(3))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(3, 42)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(day);
+
+        // Then
+        assertEquals(42, artistId);
+        assertEquals(day.minusDays(3), state.getCycleStartDay());
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldExtendCurrentCycleWithNewlyEnrolledArtists() {
+        // Given
+        LocalDate day = cycleStart.plusDays(10);
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.enrollNewArtists(0)).thenReturn(2);
+        when(rotationRepository.findLastSlot()).thenReturn(11); // Two artists appended after slot 9
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(10))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(10, 99)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(day);
+
+        // Then
+        assertEquals(99, artistId); // New artist is featured before the cycle restarts
+        assertEquals(cycleStart, state.getCycleStartDay());
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldCreateStateWhenMissing() {
+        // Given
+        LocalDate day = LocalDate.of(2025, 7, 1);
+        when(stateRepository.findForUpdate()).thenReturn(Optional.empty());
+        when(rotationRepository.findLastSlot()).thenReturn(2);
+        when(rotationRepository.findFirstBySlotGreaterThanEqualOrderBySlotAsc(0))
+                .thenReturn(Optional.of(new FeaturedRotationSlot(0, 5)));
+
+        // When
+        Integer artistId = artistRotationService.getFeaturedArtistId(day);
+
+        // Then
+        assertEquals(5, artistId);
+        verify(stateRepository, times(1)).save(argThat(saved -> day.equals(saved.getCycleStartDay())));
+    }
+
+    @Test
+    void getFeaturedArtistId_ShouldThrowExceptionWhenNoArtists() {
+        // Given
+        when(stateRepository.findForUpdate()).thenReturn(Optional.of(state));
+        when(rotationRepository.findLastSlot()).thenReturn(-1);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            artistRotationService.getFeaturedArtistId(cycleStart);
+        });
+
+        assertEquals("No artists available", exception.getMessage());
+        verify(rotationRepository, never()).findFirstBySlotGreaterThanEqualOrderBySlotAsc(anyInt());
+    }
+}
@@ -1,6 +1,8 @@
 package com.ice.registration.service;
 
 import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPageDto;
+import com.ice.registration.dto.ArtistPatchDto;
 import com.ice.registration.entity.Artist;
 import com.ice.registration.entity.Track;
 import com.ice.registration.repository.ArtistRepository;
@@ -10,7 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -20,6 +29,7 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +38,12 @@ class ArtistServiceTest {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Mock
+    private ArtistRotationService artistRotationService;
+
+    @Mock
+    private SearchService searchService;
+
     @InjectMocks
     private ArtistService artistService;
 
@@ -58,96 +74,99 @@ class ArtistServiceTest {
         tracks.add(testTrack1);
         tracks.add(testTrack2);
         testArtist.setTracks(tracks);
+        testArtist.setTrackCount(2);
 
         testArtistDto = new ArtistDto(1, "Test Artist", "test-photo.jpg", "Test Description", 2);
     }
 
     @Test
-    void getAllArtists_ShouldReturnListOfArtistDtos() {
+    void getAllArtists_ShouldReturnPageOfArtistDtos() {
         // Given
-        List<Artist> artists = Arrays.asList(testArtist);
-        when(artistRepository.findAllWithTracks()).thenReturn(artists);
+        when(artistRepository.findPageAfter(0, Limit.of(ArtistService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(new ArrayList<>(Arrays.asList(testArtistDto)));
 
         // When
-        List<ArtistDto> result = artistService.getAllArtists();
+        ArtistPageDto result = artistService.getAllArtists(null, null);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        ArtistDto resultDto = result.get(0);
+        assertEquals(1, result.getArtists().size());
+        ArtistDto resultDto = result.getArtists().get(0);
         assertEquals(testArtistDto.getId(), resultDto.getId());
         assertEquals(testArtistDto.getName(), resultDto.getName());
         assertEquals(testArtistDto.getPhoto(), resultDto.getPhoto());
         assertEquals(testArtistDto.getDescription(), resultDto.getDescription());
-        assertEquals(2, resultDto.getTrackCount()); // Should be calculated from tracks collection
+        assertEquals(2, resultDto.getTrackCount());
+        assertNull(result.getNextCursor()); // Last page
+        assertEquals(ArtistService.DEFAULT_PAGE_SIZE, result.getLimit());
 
-        verify(artistRepository, times(1)).findAllWithTracks();
+        verify(artistRepository, times(1)).findPageAfter(0, Limit.of(ArtistService.DEFAULT_PAGE_SIZE + 1));
     }
 
     @Test
-    void getAllArtists_ShouldReturnEmptyListWhenNoArtists() {
+    void getAllArtists_ShouldReturnEmptyPageWhenNoArtists() {
         // Given
-        when(artistRepository.findAllWithTracks()).thenReturn(Arrays.asList());
+        when(artistRepository.findPageAfter(anyInt(), any(Limit.class))).thenReturn(new ArrayList<>());
 
         // When
-        List<ArtistDto> result = artistService.getAllArtists();
+        ArtistPageDto result = artistService.getAllArtists(null, null);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(artistRepository, times(1)).findAllWithTracks();
+        assertTrue(result.getArtists().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(artistRepository, times(1)).findPageAfter(anyInt(), any(Limit.class));
     }
 
     @Test
-    void getAllArtists_ShouldHandleArtistWithNoTracks() {
+    void getAllArtists_ShouldReturnNextCursorWhenMoreArtistsExist() {
         // Given
-        Artist artistWithNoTracks = new Artist();
-        artistWithNoTracks.setId(2);
-        artistWithNoTracks.setName("Artist No Tracks");
-        artistWithNoTracks.setPicture("no-tracks.jpg");
-        artistWithNoTracks.setDescription("No tracks description");
-        artistWithNoTracks.setTracks(new HashSet<>()); // Empty set
-
-        when(artistRepository.findAllWithTracks()).thenReturn(Arrays.asList(artistWithNoTracks));
+        ArtistDto artist1 = new ArtistDto(10, "Artist 10", null, null, 0);
+        ArtistDto artist2 = new ArtistDto(11, "Artist 11", null, null, 3);
+        ArtistDto artist3 = new ArtistDto(12, "Artist 12", null, null, 1);
+        when(artistRepository.findPageAfter(9, Limit.of(3)))
+                .thenReturn(new ArrayList<>(Arrays.asList(artist1, artist2, artist3)));
 
         // When
-        List<ArtistDto> result = artistService.getAllArtists();
+        ArtistPageDto result = artistService.getAllArtists(9, 2);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(0, result.get(0).getTrackCount());
-
-        verify(artistRepository, times(1)).findAllWithTracks();
+        assertEquals(2, result.getArtists().size()); // Look-ahead row is not returned
+        assertEquals(10, result.getArtists().get(0).getId());
+        assertEquals(11, result.getArtists().get(1).getId());
+        assertEquals(11, result.getNextCursor()); // Id of the last artist on this page
+        assertEquals(2, result.getLimit());
     }
 
     @Test
-    void getAllArtists_ShouldHandleArtistWithNullTracks() {
+    void getAllArtists_ShouldClampLimitToMaximumPageSize() {
         // Given
-        Artist artistWithNullTracks = new Artist();
-        artistWithNullTracks.setId(3);
-        artistWithNullTracks.setName("Artist Null Tracks");
-        artistWithNullTracks.setPicture("null-tracks.jpg");
-        artistWithNullTracks.setDescription("Null tracks description");
-        artistWithNullTracks.setTracks(null); // Null tracks
-
-        when(artistRepository.findAllWithTracks()).thenReturn(Arrays.asList(artistWithNullTracks));
+        when(artistRepository.findPageAfter(0, Limit.of(ArtistService.MAX_PAGE_SIZE + 1))).thenReturn(new ArrayList<>());
 
         // When
-        List<ArtistDto> result = artistService.getAllArtists();
+        ArtistPageDto result = artistService.getAllArtists(0, ArtistService.MAX_PAGE_SIZE * 10);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(0, result.get(0).getTrackCount()); // Should handle null gracefully
+        assertEquals(ArtistService.MAX_PAGE_SIZE, result.getLimit());
+        verify(artistRepository, times(1)).findPageAfter(0, Limit.of(ArtistService.MAX_PAGE_SIZE + 1));
+    }
 
-        verify(artistRepository, times(1)).findAllWithTracks();
+    @Test
+    void getAllArtists_ShouldUseDefaultPageSizeWhenLimitIsNotPositive() {
+        // Given
+        when(artistRepository.findPageAfter(0, Limit.of(ArtistService.DEFAULT_PAGE_SIZE + 1))).thenReturn(new ArrayList<>());
+
+        // When
+        ArtistPageDto result = artistService.getAllArtists(null, 0);
+
+        // Then
+        assertEquals(ArtistService.DEFAULT_PAGE_SIZE, result.getLimit());
     }
 
     @Test
     void getArtistById_ShouldReturnArtistDtoWhenFound() {
         // Given
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist));
+        givenArtistProjection(testArtist);
 
         // When
         Optional<ArtistDto> result = artistService.getArtistById(1);
@@ -161,20 +180,40 @@ class ArtistServiceTest {
         assertEquals(testArtistDto.getDescription(), resultDto.getDescription());
         assertEquals(2, resultDto.getTrackCount());
 
-        verify(artistRepository, times(1)).findById(1);
+        verify(artistRepository, times(1)).findDtoById(1);
+        verify(artistRepository, never()).findById(anyInt()); // Projected, no managed entity
+    }
+
+    @Test
+    void getArtistById_ShouldReadTrackCountWithoutLoadingTracks() {
+        // Given
+        Artist artist = new Artist();
+        artist.setId(5);
+        artist.setName("Prolific Artist");
+        artist.setTracks(null); // Collection never initialized
+        artist.setTrackCount(25000);
+        givenArtistProjection(artist);
+
+        // When
+        Optional<ArtistDto> result = artistService.getArtistById(5);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(25000, result.get().getTrackCount());
+        assertNull(artist.getTracks());
     }
 
     @Test
     void getArtistById_ShouldReturnEmptyOptionalWhenNotFound() {
         // Given
-        when(artistRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(artistRepository.findDtoById(anyInt())).thenReturn(Optional.empty());
 
         // When
         Optional<ArtistDto> result = artistService.getArtistById(999);
 
         // Then
         assertFalse(result.isPresent());
-        verify(artistRepository, times(1)).findById(999);
+        verify(artistRepository, times(1)).findDtoById(999);
     }
 
     @Test
@@ -192,7 +231,7 @@ class ArtistServiceTest {
         assertEquals("Updated Artist", testArtist.getName());
         assertEquals("updated-photo.jpg", testArtist.getPicture());
         assertEquals("Updated Description", testArtist.getDescription());
-        assertEquals(2, result.get().getTrackCount()); // Track count should remain based on collection
+        assertEquals(2, result.get().getTrackCount()); // Track count read from the denormalized column
 
         verify(artistRepository, times(1)).findById(1);
         verify(artistRepository, times(1)).save(testArtist);
@@ -216,7 +255,7 @@ class ArtistServiceTest {
         assertEquals("Updated Name Only", testArtist.getName());
         assertEquals(originalDescription, testArtist.getDescription()); // Should remain unchanged
         assertEquals(originalPicture, testArtist.getPicture()); // Should remain unchanged
-        assertEquals(2, result.get().getTrackCount()); // Track count based on collection
+        assertEquals(2, result.get().getTrackCount()); // Track count read from the denormalized column
 
         verify(artistRepository, times(1)).findById(1);
         verify(artistRepository, times(1)).save(testArtist);
@@ -312,7 +351,7 @@ class ArtistServiceTest {
         assertEquals(originalName, testArtist.getName()); // Should remain unchanged
         assertEquals(originalDescription, testArtist.getDescription()); // Should remain unchanged
         assertEquals(originalPicture, testArtist.getPicture()); // Should remain unchanged
-        assertEquals(2, result.get().getTrackCount()); // Track count from collection
+        assertEquals(2, result.get().getTrackCount()); // Track count read from the denormalized column
 
         verify(artistRepository, times(1)).findById(1);
         verify(artistRepository, times(1)).save(testArtist);
@@ -340,13 +379,9 @@ class ArtistServiceTest {
 
     @Test
     void convertToDto_ShouldHandleArtistWithVariousTrackCounts() {
-        // This test verifies the convertToDto method indirectly through other operations
-
         // Test with multiple tracks
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist));
-        Optional<ArtistDto> result1 = artistService.getArtistById(1);
-        assertTrue(result1.isPresent());
-        assertEquals(2, result1.get().getTrackCount());
+        ArtistDto result1 = artistService.convertToDto(testArtist);
+        assertEquals(2, result1.getTrackCount());
 
         // Test with no tracks
         Artist artistNoTracks = new Artist();
@@ -354,12 +389,329 @@ class ArtistServiceTest {
         artistNoTracks.setName("No Tracks Artist");
         artistNoTracks.setTracks(new HashSet<>());
 
-        when(artistRepository.findById(2)).thenReturn(Optional.of(artistNoTracks));
-        Optional<ArtistDto> result2 = artistService.getArtistById(2);
-        assertTrue(result2.isPresent());
-        assertEquals(0, result2.get().getTrackCount());
+        ArtistDto result2 = artistService.convertToDto(artistNoTracks);
+        assertEquals(0, result2.getTrackCount());
+    }
 
-        verify(artistRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(2);
+    @Test
+    void updateArtist_ShouldFlushSoReturnedVersionIsCurrent() {
+        // Given
+        ArtistDto updateDto = new ArtistDto(null, "Updated Artist", null, null, 0);
+        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist));
+        when(artistRepository.save(any(Artist.class))).thenAnswer(invocation -> {
+            testArtist.setVersion(8); // What the flush does for a @Version field
+            return testArtist;
+        });
+
+        // When
+        Optional<ArtistDto> result = artistService.updateArtist(1, updateDto);
+
+        // Then
+        assertEquals(8, result.get().getVersion());
+        verify(artistRepository, times(1)).flush();
+        verify(searchService, times(1)).indexArtist(result.get()); // Search sees the new name
+    }
+
+    @Test
+    void updateArtist_ShouldApplyConditionalUpdateInOneStatementWhenVersionMatches() {
+        // Given
+        ArtistDto updateDto = new ArtistDto(null, "  New Alias  ", null, "New Description", 0);
+        testArtist.setVersion(4);
+        when(artistRepository.updateIfVersionMatches(1, "New Alias", "New Description", null, 3L)).thenReturn(1);
+        givenArtistProjection(testArtist);
+
+        // When
+        Optional<ArtistDto> result = artistService.updateArtist(1, updateDto, 3L);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(4, result.get().getVersion());
+        verify(artistRepository, times(1)).updateIfVersionMatches(1, "New Alias", "New Description", null, 3L);
+        verify(artistRepository, never()).save(any(Artist.class));
+        verify(artistRepository, never()).findById(anyInt()); // Reloaded as a projection
+        verify(searchService, times(1)).indexArtist(result.get());
+    }
+
+    @Test
+    void updateArtist_ShouldIgnoreBlankNameInConditionalUpdate() {
+        // Given
+        ArtistDto updateDto = new ArtistDto(null, "   ", "photo.jpg", null, 0);
+        when(artistRepository.updateIfVersionMatches(1, null, null, "photo.jpg", 0L)).thenReturn(1);
+        givenArtistProjection(testArtist);
+
+        // When
+        Optional<ArtistDto> result = artistService.updateArtist(1, updateDto, 0L);
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(artistRepository, times(1)).updateIfVersionMatches(1, null, null, "photo.jpg", 0L);
+    }
+
+    @Test
+    void updateArtist_ShouldThrowVersionConflictWhenArtistChangedInTheMeantime() {
+        // Given
+        ArtistDto updateDto = new ArtistDto(null, "New Alias", null, null, 0);
+        when(artistRepository.updateIfVersionMatches(eq(1), any(), any(), any(), eq(3L))).thenReturn(0);
+        when(artistRepository.findVersionById(1)).thenReturn(Optional.of(5L));
+
+        // When & Then
+        assertThrows(VersionConflictException.class, () -> {
+            artistService.updateArtist(1, updateDto, 3L);
+        });
+        verify(artistRepository, never()).findDtoById(anyInt());
+    }
+
+    @Test
+    void updateArtist_ShouldReturnEmptyOptionalForConditionalUpdateOfMissingArtist() {
+        // Given
+        ArtistDto updateDto = new ArtistDto(null, "New Alias", null, null, 0);
+        when(artistRepository.updateIfVersionMatches(eq(999), any(), any(), any(), eq(0L))).thenReturn(0);
+        when(artistRepository.findVersionById(999)).thenReturn(Optional.empty());
+
+        // When
+        Optional<ArtistDto> result = artistService.updateArtist(999, updateDto, 0L);
+
+        // Then
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void patchArtist_ShouldReturnArtistFromTheUpdateStatement() {
+        // Given
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setName("New Alias");
+        ArtistDto patched = new ArtistDto(1, "New Alias", "test-photo.jpg", "Test Description", 2, 4);
+        when(artistRepository.patch(1, patch, 3L)).thenReturn(Optional.of(patched));
+
+        // When
+        Optional<ArtistDto> result = artistService.patchArtist(1, patch, 3L);
+
+        // Then
+        assertSame(patched, result.get());
+        verify(artistRepository, never()).findById(anyInt()); // No reload, and no tracks collection
+        verify(artistRepository, never()).findVersionById(anyInt());
+        verify(searchService, times(1)).indexArtist(patched);
+    }
+
+    @Test
+    void patchArtist_ShouldThrowVersionConflictWhenArtistChangedInTheMeantime() {
+        // Given
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setName("New Alias");
+        when(artistRepository.patch(1, patch, 3L)).thenReturn(Optional.empty());
+        when(artistRepository.findDtoById(1)).thenReturn(Optional.of(new ArtistDto(1, "Other", null, null, 2, 5)));
+
+        // When & Then
+        assertThrows(VersionConflictException.class, () -> {
+            artistService.patchArtist(1, patch, 3L);
+        });
+        verify(searchService, never()).indexArtist(any());
+    }
+
+    @Test
+    void patchArtist_ShouldReturnEmptyOptionalForMissingArtist() {
+        // Given
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setName("New Alias");
+        when(artistRepository.patch(999, patch, null)).thenReturn(Optional.empty());
+        when(artistRepository.findDtoById(999)).thenReturn(Optional.empty());
+
+        // When
+        Optional<ArtistDto> result = artistService.patchArtist(999, patch, null);
+
+        // Then
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void patchArtist_EmptyPatch_ShouldReturnCurrentArtistWithoutUpdate() {
+        // Given
+        ArtistDto current = new ArtistDto(1, "Test Artist", "test-photo.jpg", "Test Description", 2, 3);
+        when(artistRepository.findDtoById(1)).thenReturn(Optional.of(current));
+
+        // When
+        Optional<ArtistDto> result = artistService.patchArtist(1, new ArtistPatchDto(), 3L);
+
+        // Then
+        assertSame(current, result.get());
+        verify(artistRepository, never()).patch(anyInt(), any(), any());
+        verify(searchService, never()).indexArtist(any());
+    }
+
+    @Test
+    void patchArtist_CurrentValues_ShouldReturnArtistAtSameVersion() {
+        // Given
+        ArtistPatchDto patch = new ArtistPatchDto();
+        patch.setName("Test Artist");
+        ArtistDto current = new ArtistDto(1, "Test Artist", "test-photo.jpg", "Test Description", 2, 3);
+        when(artistRepository.patch(1, patch, 3L)).thenReturn(Optional.empty()); // No value changed, no row updated
+        when(artistRepository.findDtoById(1)).thenReturn(Optional.of(current));
+
+        // When
+        Optional<ArtistDto> result = artistService.patchArtist(1, patch, 3L);
+
+        // Then
+        assertEquals(3L, result.get().getVersion());
+        verify(searchService, never()).indexArtist(any());
+    }
+
+    @Test
+    void getArtistVersion_ShouldUseVersionOnlyLookup() {
+        // Given
+        when(artistRepository.findVersionById(1)).thenReturn(Optional.of(7L));
+
+        // When
+        Optional<Long> version = artistService.getArtistVersion(1);
+
+        // Then
+        assertEquals(7L, version.get());
+        verify(artistRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void reconcileTrackCounts_ShouldDelegateRangeToRepository() {
+        // Given
+        when(artistRepository.reconcileTrackCounts(0, 10000)).thenReturn(List.of(4, 9, 12));
+
+        // When
+        int corrected = artistService.reconcileTrackCounts(0, 10000);
+
+        // Then
+        assertEquals(3, corrected);
+        verify(artistRepository, times(1)).reconcileTrackCounts(0, 10000);
+    }
+
+    @Test
+    void getFeaturedArtist_ShouldReturnArtistFromRotation() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T10:00:00Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        givenArtistProjection(testArtist);
+
+        // When
+        ArtistDto result = artistService.getFeaturedArtist();
+
+        // Then
+        assertEquals(1, result.getId());
+        assertEquals("Test Artist", result.getName());
+        assertEquals(2, result.getTrackCount());
+    }
+
+    @Test
+    void getFeaturedArtist_ShouldServeCachedArtistForRestOfDay() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T00:00:01Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        givenArtistProjection(testArtist);
+        artistService.getFeaturedArtist();
+
+        // When
+        fixClock("2025-06-01T23:59:59Z");
+        ArtistDto result = artistService.getFeaturedArtist();
+
+        // Then
+        assertEquals(1, result.getId());
+        verify(artistRotationService, times(1)).getFeaturedArtistId(any(LocalDate.class));
+        verify(artistRepository, times(1)).findDtoById(1); // No database work after the first request
+    }
+
+    @Test
+    void getFeaturedArtist_ShouldRollOverAtMidnight() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T23:59:59Z");
+        Artist nextArtist = new Artist();
+        nextArtist.setId(2);
+        nextArtist.setName("Tomorrow's Artist");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        when(artistRotationService.getFeaturedArtistId(today.plusDays(1))).thenReturn(2);
+        givenArtistProjection(testArtist);
+        givenArtistProjection(nextArtist);
+        artistService.getFeaturedArtist();
+
+        // When
+        fixClock("2025-06-02T00:00:00Z");
+        ArtistDto result = artistService.getFeaturedArtist();
+
+        // Then
+        assertEquals(2, result.getId());
+        assertEquals("Tomorrow's Artist", result.getName());
+    }
+
+    @Test
+    void getFeaturedArtist_ShouldReloadAfterFeaturedArtistIsUpdated() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T10:00:00Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        givenArtistProjection(testArtist);
+        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist));
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+        artistService.getFeaturedArtist();
+
+        // When
+        artistService.updateArtist(1, new ArtistDto(null, "Renamed Artist", null, null, 0));
+        ArtistDto result = artistService.getFeaturedArtist();
+
+        // Then
+        assertEquals("Renamed Artist", result.getName());
+        verify(artistRotationService, times(2)).getFeaturedArtistId(today);
+    }
+
+    @Test
+    void evictFeaturedArtist_ShouldKeepCacheWhenAnotherArtistChanges() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T10:00:00Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        givenArtistProjection(testArtist);
+        artistService.getFeaturedArtist();
+
+        // When
+        artistService.evictFeaturedArtist(2);
+        artistService.getFeaturedArtist();
+
+        // Then
+        verify(artistRotationService, times(1)).getFeaturedArtistId(today);
+    }
+
+    @Test
+    void evictFeaturedArtist_WithoutIdShouldReloadOnNextRequest() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T10:00:00Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenReturn(1);
+        givenArtistProjection(testArtist);
+        artistService.getFeaturedArtist();
+
+        // When
+        artistService.evictFeaturedArtist();
+        artistService.getFeaturedArtist();
+
+        // Then
+        verify(artistRotationService, times(2)).getFeaturedArtistId(today);
+    }
+
+    @Test
+    void getFeaturedArtist_ShouldPropagateExceptionWhenNoArtists() {
+        // Given
+        LocalDate today = fixClock("2025-06-01T10:00:00Z");
+        when(artistRotationService.getFeaturedArtistId(today)).thenThrow(new RuntimeException("No artists available"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            artistService.getFeaturedArtist();
+        });
+
+        assertEquals("No artists available", exception.getMessage());
+        verify(artistRepository, never()).findDtoById(anyInt());
+    }
+
+    // Stubs the projection query with the artist's current state, as the database would return it
+    private void givenArtistProjection(Artist artist) {
+        when(artistRepository.findDtoById(artist.getId()))
+                .thenAnswer(invocation -> Optional.of(artistService.convertToDto(artist)));
+    }
+
+    private LocalDate fixClock(String instant) {
+        Clock clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+        ReflectionTestUtils.setField(artistService, "clock", clock);
+        return LocalDate.now(clock);
     }
 }
\ No newline at end of file
@@ -315,4 +315,77 @@ class GenreServiceTest {
         verify(genreRepository, times(1)).findAll();
         verifyNoMoreInteractions(genreRepository);
     }
+
+    @Test
+    void getAllGenres_ShouldServeSnapshotWithoutQueryingAgain() {
+        // Given
+        when(genreRepository.findAll()).thenReturn(Arrays.asList(testGenre1, testGenre2));
+
+        // When
+        genreService.getAllGenres();
+        genreService.getAllGenres();
+        List<GenreDto> result = genreService.getAllGenres();
+
+        // Then
+        assertEquals(2, result.size());
+        verify(genreRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_ShouldKeepVersionWhenGenresAreUnchanged() {
+        // Given
+        when(genreRepository.findAll())
+                .thenReturn(Arrays.asList(testGenre1, testGenre2))
+                .thenReturn(Arrays.asList(testGenre2, testGenre1)); // Same rows, different order
+        GenreSnapshot first = genreService.getSnapshot();
+
+        // When
+        GenreSnapshot refreshed = genreService.refresh();
+
+        // Then
+        assertSame(first, refreshed);
+        assertEquals(first.getVersion(), genreService.getSnapshot().getVersion());
+    }
+
+    @Test
+    void refresh_ShouldPublishNewVersionWhenGenresChange() {
+        // Given
+        when(genreRepository.findAll())
+                .thenReturn(Arrays.asList(testGenre1))
+                .thenReturn(Arrays.asList(testGenre1, testGenre3));
+        String firstVersion = genreService.getSnapshot().getVersion();
+
+        // When
+        genreService.refresh();
+
+        // Then
+        GenreSnapshot snapshot = genreService.getSnapshot();
+        assertNotEquals(firstVersion, snapshot.getVersion());
+        assertEquals(2, snapshot.getGenres().size());
+        assertEquals("Electronic", snapshot.findById(3).get().getName());
+    }
+
+    @Test
+    void getSnapshot_ShouldLookUpGenresById() {
+        // Given
+        when(genreRepository.findAll()).thenReturn(Arrays.asList(testGenre1, testGenre2));
+
+        // When
+        GenreSnapshot snapshot = genreService.getSnapshot();
+
+        // Then
+        assertEquals("Jazz", snapshot.findById(2).get().getName());
+        assertTrue(snapshot.findById(99).isEmpty());
+    }
+
+    @Test
+    void getSnapshot_ShouldHaveSameVersionForSameGenres() {
+        // Given
+        GenreSnapshot snapshot1 = GenreService.snapshotOf(Arrays.asList(testGenre1, testGenre2));
+        GenreSnapshot snapshot2 = GenreService.snapshotOf(Arrays.asList(testGenre1, testGenre2));
+
+        // Then
+        assertEquals(snapshot1.getVersion(), snapshot2.getVersion()); // Comparable across instances
+        assertThrows(UnsupportedOperationException.class, () -> snapshot1.getGenres().add(expectedGenreDto3));
+    }
 }
\ No newline at end of file
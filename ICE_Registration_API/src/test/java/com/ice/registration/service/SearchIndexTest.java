@@ -0,0 +1,159 @@
+package com.ice.registration.service;
+
+import com.ice.registration.dto.ArtistSearchHitDto;
+import com.ice.registration.dto.SearchResultDto;
+import com.ice.registration.dto.TrackSearchHitDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.putAll(
+                Map.of(1, new String[] {"Generic Indie Landfill Band", "Moody vocals, jangly guitars."},
+                       2, new String[] {"AutoTuna", "Country-pop fusion with heavy vocal effects."},
+                       3, new String[] {"Mild Rage", null}),
+                Map.of(10, "Coffee and Rain", 11, "Truckin' Alone", 12, "Silent Screams"),
+                Map.of(10, List.of(1), 11, List.of(2), 12, List.of(3)));
+    }
+
+    @Test
+    void search_ShouldMatchWholeWordsCaseInsensitively() {
+        // When
+        SearchResultDto result = index.search("RAGE", 10);
+
+        // Then
+        assertEquals(List.of(3), artistIds(result));
+        assertTrue(result.getTracks().isEmpty());
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesForTypeahead() {
+        // When
+        SearchResultDto result = index.search("auto", 10);
+
+        // Then
+        assertEquals(1, result.getArtists().size());
+        assertEquals("AutoTuna", result.getArtists().get(0).getName());
+    }
+
+    @Test
+    void search_ShouldRequireEveryWordToMatch() {
+        // When
+        SearchResultDto both = index.search("coffee rai", 10);
+        SearchResultDto one = index.search("coffee screams", 10);
+
+        // Then
+        assertEquals(List.of(10), trackIds(both));
+        assertTrue(one.getTracks().isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        // Given
+        index.putArtist(4, "Vocal Point", null);
+
+        // When
+        SearchResultDto result = index.search("vocal", 10);
+
+        // Then
+        assertEquals(List.of(4, 2, 1), artistIds(result)); // Exact description word before a prefix of one
+    }
+
+    @Test
+    void search_ShouldIgnoreAccentsAndApostrophes() {
+        // When
+        SearchResultDto result = index.search("Trückin", 10);
+
+        // Then
+        assertEquals(List.of(11), trackIds(result));
+        assertEquals(List.of(2), result.getTracks().get(0).getArtistIds());
+    }
+
+    @Test
+    void search_ShouldMatchShortTermsOnlyAsWholeWords() {
+        // Given
+        index.putTrack(13, "A Song", List.of(1));
+
+        // When
+        SearchResultDto single = index.search("a", 10);
+        SearchResultDto twoCharacters = index.search("so", 10);
+        SearchResultDto threeCharacters = index.search("son", 10);
+
+        // Then
+        assertEquals(List.of(13), trackIds(single)); // Not "Alone", "and" or "AutoTuna"
+        assertTrue(single.getArtists().isEmpty());
+        assertTrue(twoCharacters.getTracks().isEmpty());
+        assertEquals(List.of(13), trackIds(threeCharacters));
+    }
+
+    @Test
+    void search_ShouldLimitResultsToBestMatches() {
+        // Given
+        for (int id = 20; id < 30; id++) {
+            index.putTrack(id, "Rain Song " + id, List.of(1));
+        }
+
+        // When
+        SearchResultDto result = index.search("rain", 3);
+
+        // Then
+        assertEquals(List.of(20, 21, 22), trackIds(result)); // Shorter titles, then lower ids, among equal scores
+    }
+
+    @Test
+    void search_ShouldReturnNothingForBlankQuery() {
+        // When
+        SearchResultDto result = index.search("  ,. ", 10);
+
+        // Then
+        assertTrue(result.getArtists().isEmpty());
+        assertTrue(result.getTracks().isEmpty());
+    }
+
+    @Test
+    void putArtist_ShouldReplacePreviouslyIndexedTerms() {
+        // When
+        index.putArtist(3, "Mild Calm", null);
+
+        // Then
+        assertTrue(index.search("rage", 10).getArtists().isEmpty());
+        assertEquals(List.of(3), artistIds(index.search("calm", 10)));
+        assertEquals("Mild Calm", index.search("mild", 10).getArtists().get(0).getName());
+        assertEquals(3, index.artistCount());
+    }
+
+    @Test
+    void putTrack_ShouldMakeNewTrackSearchable() {
+        // When
+        index.putTrack(13, "Rain Dance", Set.of(2));
+
+        // Then
+        assertEquals(List.of(13, 10), trackIds(index.search("rain", 10)));
+        assertEquals(4, index.trackCount());
+    }
+
+    @Test
+    void tokenize_ShouldSplitOnPunctuationAndNormalize() {
+        assertEquals(List.of("country", "pop", "fusion"), List.copyOf(SearchIndex.tokenize("Country-pop  FUSION!")));
+        assertEquals(List.of("beyonce", "dont"), List.copyOf(SearchIndex.tokenize("Beyoncé don’t")));
+    }
+
+    private static List<Integer> artistIds(SearchResultDto result) {
+        return result.getArtists().stream().map(ArtistSearchHitDto::getId).toList();
+    }
+
+    private static List<Integer> trackIds(SearchResultDto result) {
+        return result.getTracks().stream().map(TrackSearchHitDto::getId).toList();
+    }
+}
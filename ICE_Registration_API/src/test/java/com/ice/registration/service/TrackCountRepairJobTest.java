@@ -0,0 +1,54 @@
+package com.ice.registration.service;
+
+import com.ice.registration.repository.ArtistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrackCountRepairJobTest {
+
+    @Mock
+    private ArtistService artistService;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @InjectMocks
+    private TrackCountRepairJob trackCountRepairJob;
+
+    @Test
+    void repairTrackCounts_ShouldWalkAllArtistsInChunks() {
+        // Given
+        when(artistRepository.findMaxId()).thenReturn(25000);
+        when(artistService.reconcileTrackCounts(0, 10000)).thenReturn(1);
+        when(artistService.reconcileTrackCounts(10000, 20000)).thenReturn(0);
+        when(artistService.reconcileTrackCounts(20000, 25000)).thenReturn(2);
+
+        // When
+        int corrected = trackCountRepairJob.repairTrackCounts();
+
+        // Then
+        assertEquals(3, corrected);
+        verify(artistService, times(3)).reconcileTrackCounts(anyInt(), anyInt());
+    }
+
+    @Test
+    void repairTrackCounts_ShouldDoNothingWhenNoArtists() {
+        // Given
+        when(artistRepository.findMaxId()).thenReturn(0);
+
+        // When
+        int corrected = trackCountRepairJob.repairTrackCounts();
+
+        // Then
+        assertEquals(0, corrected);
+        verifyNoInteractions(artistService);
+    }
+}
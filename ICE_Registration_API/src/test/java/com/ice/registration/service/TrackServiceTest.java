@@ -1,11 +1,14 @@
 package com.ice.registration.service;
 
+import com.ice.registration.dto.TrackBatchResultDto;
 import com.ice.registration.dto.TrackDto;
 import com.ice.registration.entity.Artist;
 import com.ice.registration.entity.Genre;
 import com.ice.registration.entity.Track;
 import com.ice.registration.repository.ArtistRepository;
+import com.ice.registration.repository.ArtistTrackViewRepository;
 import com.ice.registration.repository.GenreRepository;
+import com.ice.registration.repository.TrackBatchRepository;
 import com.ice.registration.repository.TrackRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,21 @@ class TrackServiceTest {
     @Mock
     private GenreRepository genreRepository;
 
+    @Mock
+    private GenreService genreService;
+
+    @Mock
+    private ArtistService artistService;
+
+    @Mock
+    private TrackBatchRepository trackBatchRepository;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private ArtistTrackViewRepository artistTrackViewRepository;
+
     @InjectMocks
     private TrackService trackService;
 
@@ -87,39 +105,27 @@ class TrackServiceTest {
     // Tests for getTracksByArtistId method
 
     @Test
-    void getTracksByArtistId_ShouldReturnListOfTrackDtos() {
+    void getTracksByArtistId_ShouldReadFromArtistTrackView() {
         // Given
-        List<Track> tracks = Arrays.asList(testTrack1, testTrack2);
-        when(trackRepository.findByArtistIdWithGenre(1)).thenReturn(tracks);
+        List<TrackDto> rows = Arrays.asList(
+                new TrackDto(1, "Track 1", "Rock", 180, "3:00"),
+                new TrackDto(2, "Track 2", "Rock", 240, "4:00"));
+        when(artistTrackViewRepository.findByArtistId(1)).thenReturn(rows);
 
         // When
         List<TrackDto> result = trackService.getTracksByArtistId(1);
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-
-        TrackDto resultDto1 = result.get(0);
-        assertEquals(testTrack1.getId(), resultDto1.getId());
-        assertEquals(testTrack1.getTitle(), resultDto1.getTitle());
-        assertEquals("Rock", resultDto1.getGenre());
-        assertEquals(180, resultDto1.getLengthSeconds());
-        assertEquals("3:00", resultDto1.getFormattedLength());
-
-        TrackDto resultDto2 = result.get(1);
-        assertEquals(testTrack2.getId(), resultDto2.getId());
-        assertEquals(testTrack2.getTitle(), resultDto2.getTitle());
-        assertEquals("Rock", resultDto2.getGenre());
-        assertEquals(240, resultDto2.getLengthSeconds());
-        assertEquals("4:00", resultDto2.getFormattedLength());
-
-        verify(trackRepository, times(1)).findByArtistIdWithGenre(1);
+        assertEquals(rows, result);
+        verify(artistRepository, never()).findById(anyInt()); // No entities: the view rows are the response
+        verify(trackRepository, never()).findByArtistId(anyInt());
+        verify(genreService, never()).getSnapshot(); // Genre names are stored in the view
     }
 
     @Test
-    void getTracksByArtistId_ShouldReturnEmptyListWhenNoTracks() {
+    void getTracksByArtistId_ShouldReturnEmptyListWhenArtistNotFound() {
         // Given
-        when(trackRepository.findByArtistIdWithGenre(anyInt())).thenReturn(Arrays.asList());
+        when(artistTrackViewRepository.findByArtistId(999)).thenReturn(List.of());
 
         // When
         List<TrackDto> result = trackService.getTracksByArtistId(999);
@@ -127,28 +133,6 @@ class TrackServiceTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(trackRepository, times(1)).findByArtistIdWithGenre(999);
-    }
-
-    @Test
-    void getTracksByArtistId_ShouldHandleTrackWithNullGenre() {
-        // Given
-        Track trackWithNullGenre = new Track();
-        trackWithNullGenre.setId(3);
-        trackWithNullGenre.setTitle("Track No Genre");
-        trackWithNullGenre.setGenre(null);
-        trackWithNullGenre.setLengthSeconds(150);
-
-        when(trackRepository.findByArtistIdWithGenre(1)).thenReturn(Arrays.asList(trackWithNullGenre));
-
-        // When
-        List<TrackDto> result = trackService.getTracksByArtistId(1);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Unknown", result.get(0).getGenre());
-        verify(trackRepository, times(1)).findByArtistIdWithGenre(1);
     }
 
     // Tests for createTrack method
@@ -163,11 +147,9 @@ class TrackServiceTest {
         savedTrack.setLengthSeconds(200);
         savedTrack.setArtists(new HashSet<>(Arrays.asList(testArtist1, testArtist2)));
 
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
-        when(artistRepository.findById(2)).thenReturn(Optional.of(testArtist2));
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1, 2))).thenReturn(Arrays.asList(testArtist1, testArtist2));
         when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
-        when(artistRepository.saveAll(any())).thenReturn(Arrays.asList(testArtist1, testArtist2));
 
         // When
         TrackDto result = trackService.createTrack(testTrackDto);
@@ -180,11 +162,17 @@ class TrackServiceTest {
         assertEquals(200, result.getLengthSeconds());
         assertEquals("3:20", result.getFormattedLength());
 
-        verify(genreRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(2);
-        verify(trackRepository, times(2)).save(any(Track.class)); // Once before artists, once after
-        verify(artistRepository, times(1)).saveAll(any());
+        verify(genreRepository, never()).findById(anyInt()); // Validated against the in-memory snapshot
+        verify(artistRepository, times(1)).findAllById(Set.of(1, 2)); // One lookup for all artists
+        verify(artistRepository, never()).findById(anyInt());
+        verify(trackRepository, times(1)).save(any(Track.class)); // Saved once, after artists are resolved
+        verify(artistRepository, times(1)).addTrack(Set.of(1, 2), 1);
+        verify(artistRepository, times(1)).incrementTrackCount(new LinkedHashSet<>(Arrays.asList(1, 2)));
+        verify(artistTrackViewRepository, times(1)).insertForTracks(List.of(1));
+        verify(artistRepository, never()).saveAll(any());
+        verify(artistService, times(1)).evictFeaturedArtist(1); // Featured track count is now stale
+        verify(artistService, times(1)).evictFeaturedArtist(2);
+        verify(searchService, times(1)).indexTrack(1, "New Track", Set.of(1, 2));
     }
 
     @Test
@@ -229,6 +217,20 @@ class TrackServiceTest {
         verifyNoInteractions(trackRepository, artistRepository, genreRepository);
     }
 
+    @Test
+    void createTrack_ShouldThrowExceptionWhenTitleIsTooLong() {
+        // Given
+        testTrackDto.setTitle("x".repeat(TrackService.MAX_TITLE_LENGTH + 1));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            trackService.createTrack(testTrackDto);
+        });
+
+        assertEquals("Track title must be at most 255 characters", exception.getMessage());
+        verifyNoInteractions(trackRepository, artistRepository, genreRepository);
+    }
+
     @Test
     void createTrack_ShouldTrimTitleWhenCreating() {
         // Given
@@ -241,18 +243,16 @@ class TrackServiceTest {
         savedTrack.setLengthSeconds(200);
         savedTrack.setArtists(new HashSet<>(Arrays.asList(testArtist1)));
 
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
-        when(artistRepository.findById(2)).thenReturn(Optional.of(testArtist2));
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1, 2))).thenReturn(Arrays.asList(testArtist1, testArtist2));
         when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
-        when(artistRepository.saveAll(any())).thenReturn(Arrays.asList(testArtist1, testArtist2));
 
         // When
         TrackDto result = trackService.createTrack(testTrackDto);
 
         // Then
         assertEquals("Trimmed Track", result.getTitle());
-        verify(trackRepository, times(2)).save(argThat(track -> "Trimmed Track".equals(track.getTitle())));
+        verify(trackRepository, times(1)).save(argThat(track -> "Trimmed Track".equals(track.getTitle())));
     }
 
     @Test
@@ -300,7 +300,7 @@ class TrackServiceTest {
     @Test
     void createTrack_ShouldThrowExceptionWhenGenreNotFound() {
         // Given
-        when(genreRepository.findById(1)).thenReturn(Optional.empty());
+        when(genreService.getSnapshot()).thenReturn(GenreService.snapshotOf(Arrays.asList()));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -308,17 +308,15 @@ class TrackServiceTest {
         });
 
         assertEquals("Genre not found", exception.getMessage());
-        verify(genreRepository, times(1)).findById(1);
-        verifyNoInteractions(trackRepository, artistRepository);
+        verify(genreService, times(1)).getSnapshot();
+        verifyNoInteractions(trackRepository, artistRepository, genreRepository);
     }
 
     @Test
     void createTrack_ShouldThrowExceptionWhenArtistNotFound() {
         // Given
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
-        when(artistRepository.findById(2)).thenReturn(Optional.empty());
-        when(trackRepository.save(any(Track.class))).thenReturn(testTrack1);
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1, 2))).thenReturn(Arrays.asList(testArtist1));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -326,28 +324,27 @@ class TrackServiceTest {
         });
 
         assertEquals("Artist not found: 2", exception.getMessage());
-        verify(genreRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(2);
-        verify(trackRepository, times(1)).save(any(Track.class)); // Initial save happens before artist lookup fails
+        verify(genreService, times(1)).getSnapshot();
+        verify(artistRepository, times(1)).findAllById(Set.of(1, 2));
+        verify(trackRepository, never()).save(any(Track.class)); // Artists are resolved before the track is saved
+        verify(artistRepository, never()).incrementTrackCount(any());
+        verify(artistTrackViewRepository, never()).insertForTracks(any());
     }
 
     @Test
-    void createTrack_ShouldHandleArtistWithNullTracks() {
+    void createTrack_ShouldNotLoadArtistTracksCollection() {
         // Given
-        testArtist1.setTracks(null); // Null tracks collection
+        testArtist1.setTracks(null); // Uninitialized tracks collection
         
         Track savedTrack = new Track();
         savedTrack.setId(1);
         savedTrack.setTitle("New Track");
         savedTrack.setGenre(testGenre);
         savedTrack.setLengthSeconds(200);
-        savedTrack.setArtists(new HashSet<>(Arrays.asList(testArtist1)));
 
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1))).thenReturn(Arrays.asList(testArtist1));
         when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
-        when(artistRepository.saveAll(any())).thenReturn(Arrays.asList(testArtist1));
 
         testTrackDto.setArtistIds(Arrays.asList(1)); // Only one artist
 
@@ -356,13 +353,38 @@ class TrackServiceTest {
 
         // Then
         assertNotNull(result);
-        assertNotNull(testArtist1.getTracks()); // Should be initialized
-        assertTrue(testArtist1.getTracks().contains(savedTrack));
+        assertNull(testArtist1.getTracks()); // Linked through the join table, collection untouched
+        assertTrue(savedTrack.getArtists().contains(testArtist1));
         
-        verify(genreRepository, times(1)).findById(1);
-        verify(artistRepository, times(1)).findById(1);
-        verify(trackRepository, times(2)).save(any(Track.class));
-        verify(artistRepository, times(1)).saveAll(any());
+        verify(genreService, times(1)).getSnapshot();
+        verify(artistRepository, times(1)).findAllById(Set.of(1));
+        verify(trackRepository, times(1)).save(any(Track.class));
+        verify(artistRepository, times(1)).addTrack(Set.of(1), 1);
+        verify(artistRepository, times(1)).incrementTrackCount(Set.of(1));
+    }
+
+    @Test
+    void createTrack_ShouldLinkDuplicateArtistIdsOnce() {
+        // Given
+        testTrackDto.setArtistIds(Arrays.asList(1, 1));
+
+        Track savedTrack = new Track();
+        savedTrack.setId(1);
+        savedTrack.setTitle("New Track");
+        savedTrack.setGenre(testGenre);
+        savedTrack.setLengthSeconds(200);
+
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1))).thenReturn(Arrays.asList(testArtist1));
+        when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
+
+        // When
+        trackService.createTrack(testTrackDto);
+
+        // Then
+        verify(artistRepository, times(1)).findAllById(Set.of(1));
+        verify(artistRepository, times(1)).addTrack(Set.of(1), 1);
+        verify(artistRepository, times(1)).incrementTrackCount(Set.of(1));
     }
 
     @Test
@@ -377,10 +399,9 @@ class TrackServiceTest {
         savedTrack.setLengthSeconds(200);
         savedTrack.setArtists(new HashSet<>(Arrays.asList(testArtist1)));
 
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1))).thenReturn(Arrays.asList(testArtist1));
         when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
-        when(artistRepository.saveAll(any())).thenReturn(Arrays.asList(testArtist1));
 
         // When
         TrackDto result = trackService.createTrack(testTrackDto);
@@ -388,8 +409,7 @@ class TrackServiceTest {
         // Then
         assertNotNull(result);
         assertEquals("New Track", result.getTitle());
-        verify(artistRepository, times(1)).findById(1);
-        verify(artistRepository, never()).findById(2); // Second artist not looked up
+        verify(artistRepository, times(1)).findAllById(Set.of(1)); // Second artist not looked up
     }
 
     @Test
@@ -404,11 +424,9 @@ class TrackServiceTest {
         savedTrack.setLengthSeconds(null);
         savedTrack.setArtists(new HashSet<>(Arrays.asList(testArtist1, testArtist2)));
 
-        when(genreRepository.findById(1)).thenReturn(Optional.of(testGenre));
-        when(artistRepository.findById(1)).thenReturn(Optional.of(testArtist1));
-        when(artistRepository.findById(2)).thenReturn(Optional.of(testArtist2));
+        givenGenreSnapshot();
+        when(artistRepository.findAllById(Set.of(1, 2))).thenReturn(Arrays.asList(testArtist1, testArtist2));
         when(trackRepository.save(any(Track.class))).thenReturn(savedTrack);
-        when(artistRepository.saveAll(any())).thenReturn(Arrays.asList(testArtist1, testArtist2));
 
         // When
         TrackDto result = trackService.createTrack(testTrackDto);
@@ -419,7 +437,146 @@ class TrackServiceTest {
         assertEquals("0:00", result.getFormattedLength()); // Should handle null gracefully
     }
 
-    // Tests for convertToDto method (tested indirectly)
+    // Tests for createTracks method
+
+    @Test
+    void createTracks_ShouldResolveReferencesOnceAndWriteInBatches() {
+        // Given
+        TrackDto second = trackDto("Second Track", 1, 95, 2);
+        givenGenreSnapshot();
+        when(trackBatchRepository.findExistingArtistIds(Set.of(1, 2))).thenReturn(Set.of(1, 2));
+        when(trackBatchRepository.allocateTrackIds(2)).thenReturn(Arrays.asList(100, 101));
+
+        // When
+        TrackBatchResultDto result = trackService.createTracks(Arrays.asList(testTrackDto, second));
+
+        // Then
+        assertEquals(2, result.getCreated().size());
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(100, result.getCreated().get(0).getId());
+        assertEquals("New Track", result.getCreated().get(0).getTitle());
+        assertEquals("Rock", result.getCreated().get(0).getGenre());
+        assertEquals("3:20", result.getCreated().get(0).getFormattedLength());
+        assertEquals(101, result.getCreated().get(1).getId());
+        assertEquals("1:35", result.getCreated().get(1).getFormattedLength());
+
+        verify(genreService, times(1)).getSnapshot();
+        verify(genreRepository, never()).findAllById(any());
+        verify(trackBatchRepository, times(1)).findExistingArtistIds(any());
+        verify(trackBatchRepository, times(1)).insertTracks(argThat(tracks -> tracks.size() == 2));
+        verify(trackBatchRepository, times(1)).insertArtistTracks(argThat(links -> links.size() == 3));
+        verify(trackBatchRepository, times(1)).incrementTrackCounts(Map.of(1, 1, 2, 2));
+        verify(artistTrackViewRepository, times(1)).insertForTracks(Arrays.asList(100, 101));
+        verify(artistRepository, never()).findById(anyInt());
+        verify(trackRepository, never()).save(any(Track.class));
+        verify(searchService, times(1)).indexTrack(100, "New Track", Set.of(1, 2));
+        verify(searchService, times(1)).indexTrack(101, "Second Track", Set.of(2));
+    }
+
+    @Test
+    void createTracks_ShouldReportInvalidItemsByIndexAndCreateTheRest() {
+        // Given
+        TrackDto missingTitle = trackDto(" ", 1, 100, 1);
+        TrackDto unknownGenre = trackDto("Unknown Genre", 9, 100, 1);
+        TrackDto unknownArtist = trackDto("Unknown Artist", 1, 100, 1, 7);
+        TrackDto negativeLength = trackDto("Negative", 1, -5, 1);
+        givenGenreSnapshot();
+        when(trackBatchRepository.findExistingArtistIds(Set.of(1, 2, 7))).thenReturn(Set.of(1, 2));
+        when(trackBatchRepository.allocateTrackIds(1)).thenReturn(Arrays.asList(100));
+
+        // When
+        TrackBatchResultDto result = trackService.createTracks(
+                Arrays.asList(missingTitle, testTrackDto, unknownGenre, unknownArtist, negativeLength));
+
+        // Then
+        assertEquals(1, result.getCreated().size());
+        assertEquals("New Track", result.getCreated().get(0).getTitle());
+        assertEquals(4, result.getErrors().size());
+        assertEquals(0, result.getErrors().get(0).getIndex());
+        assertEquals("Track title is required", result.getErrors().get(0).getMessage());
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertEquals("Genre not found", result.getErrors().get(1).getMessage());
+        assertEquals(3, result.getErrors().get(2).getIndex());
+        assertEquals("Artist not found: 7", result.getErrors().get(2).getMessage());
+        assertEquals(4, result.getErrors().get(3).getIndex());
+        assertEquals("Track length must be positive", result.getErrors().get(3).getMessage());
+    }
+
+    @Test
+    void createTracks_ShouldRejectOverlongTitleAndCreateTheRest() {
+        // Given
+        TrackDto longest = trackDto("x".repeat(TrackService.MAX_TITLE_LENGTH), 1, 100, 1);
+        TrackDto overlong = trackDto("x".repeat(TrackService.MAX_TITLE_LENGTH + 1), 1, 100, 1);
+        givenGenreSnapshot();
+        when(trackBatchRepository.findExistingArtistIds(Set.of(1, 2))).thenReturn(Set.of(1, 2));
+        when(trackBatchRepository.allocateTrackIds(2)).thenReturn(Arrays.asList(100, 101));
+
+        // When
+        TrackBatchResultDto result = trackService.createTracks(Arrays.asList(testTrackDto, overlong, longest));
+
+        // Then
+        assertEquals(2, result.getCreated().size());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("Track title must be at most 255 characters", result.getErrors().get(0).getMessage());
+        verify(trackBatchRepository, times(1)).insertTracks(argThat(tracks -> tracks.size() == 2
+                && tracks.stream().allMatch(track -> track.getTitle().length() <= TrackService.MAX_TITLE_LENGTH)));
+    }
+
+    @Test
+    void createTracks_ShouldWriteNothingWhenEveryItemIsInvalid() {
+        // Given
+        testTrackDto.setGenreId(null);
+        when(genreService.getSnapshot()).thenReturn(GenreService.snapshotOf(Arrays.asList(testGenre)));
+
+        // When
+        TrackBatchResultDto result = trackService.createTracks(Arrays.asList(testTrackDto));
+
+        // Then
+        assertTrue(result.getCreated().isEmpty());
+        assertEquals("Genre is required", result.getErrors().get(0).getMessage());
+        verify(trackBatchRepository, never()).allocateTrackIds(anyInt());
+        verify(trackBatchRepository, never()).insertTracks(any());
+    }
+
+    @Test
+    void createTracks_ShouldThrowExceptionWhenBatchIsEmpty() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            trackService.createTracks(Arrays.asList());
+        });
+
+        assertEquals("At least one track is required", exception.getMessage());
+        verifyNoInteractions(trackBatchRepository, genreService);
+    }
+
+    @Test
+    void createTracks_ShouldThrowExceptionWhenBatchIsTooLarge() {
+        // Given
+        List<TrackDto> trackDtos = Collections.nCopies(TrackService.MAX_BATCH_SIZE + 1, testTrackDto);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> {
+            trackService.createTracks(trackDtos);
+        });
+        verifyNoInteractions(trackBatchRepository, genreService);
+    }
+
+    private void givenGenreSnapshot() {
+        when(genreService.getSnapshot()).thenReturn(GenreService.snapshotOf(Arrays.asList(testGenre)));
+        when(genreRepository.getReferenceById(1)).thenReturn(testGenre);
+    }
+
+    private TrackDto trackDto(String title, Integer genreId, Integer lengthSeconds, Integer... artistIds) {
+        TrackDto trackDto = new TrackDto();
+        trackDto.setTitle(title);
+        trackDto.setGenreId(genreId);
+        trackDto.setLengthSeconds(lengthSeconds);
+        trackDto.setArtistIds(Arrays.asList(artistIds));
+        return trackDto;
+    }
+
+    // Tests for convertToDto method
 
     @Test
     void convertToDto_ShouldHandleNullGenre() {
@@ -430,15 +587,12 @@ class TrackServiceTest {
         trackWithNullGenre.setGenre(null);
         trackWithNullGenre.setLengthSeconds(120);
 
-        when(trackRepository.findByArtistIdWithGenre(1)).thenReturn(Arrays.asList(trackWithNullGenre));
-
         // When
-        List<TrackDto> result = trackService.getTracksByArtistId(1);
+        TrackDto result = trackService.convertToDto(trackWithNullGenre);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Unknown", result.get(0).getGenre());
+        assertEquals("Unknown", result.getGenre());
     }
 
     @Test
@@ -456,15 +610,13 @@ class TrackServiceTest {
         longTrack.setGenre(testGenre);
         longTrack.setLengthSeconds(3725); // 62:05
 
-        when(trackRepository.findByArtistIdWithGenre(1)).thenReturn(Arrays.asList(shortTrack, longTrack));
-
         // When
-        List<TrackDto> result = trackService.getTracksByArtistId(1);
+        TrackDto shortResult = trackService.convertToDto(shortTrack);
+        TrackDto longResult = trackService.convertToDto(longTrack);
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("1:05", result.get(0).getFormattedLength());
-        assertEquals("62:05", result.get(1).getFormattedLength());
+        assertEquals("1:05", shortResult.getFormattedLength());
+        assertEquals("62:05", longResult.getFormattedLength());
+        assertEquals("62:05", new TrackDto(2, "Long Track", "Rock", 3725).getFormattedLength()); // Projection constructor
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.ice.registration.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool(runnable -> new Thread(runnable, "single-flight-test"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_ConcurrentRequestsForSameKey_ShareOneLoad() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "Mild Rage";
+        };
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.load("artist", 1, loader));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.load("artist", 1, loader)));
+        }
+        awaitWaiting(6);
+        release.countDown();
+
+        // Then
+        assertEquals("Mild Rage", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("Mild Rage", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("leader"));
+        assertEquals(5.0, requests("coalesced"));
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void load_AfterLoadCompletes_LoadsAgain() {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.load("artist", 1, loads::incrementAndGet);
+        singleFlight.load("artist", 1, loads::incrementAndGet);
+        singleFlight.load("artist-tracks", 1, loads::incrementAndGet);
+
+        // Then
+        assertEquals(3, loads.get());
+        assertEquals(2.0, requests("leader"));
+    }
+
+    @Test
+    void load_LeaderFails_FollowersGetSameException() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            started.countDown();
+            await(release);
+            throw new RuntimeException("Database unavailable");
+        };
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.load("artist", 1, loader));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> singleFlight.load("artist", 1, loader));
+        awaitWaiting(2);
+        release.countDown();
+
+        // Then
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertEquals("Database unavailable", leaderFailure.getCause().getMessage());
+        assertSame(leaderFailure.getCause(), followerFailure.getCause());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void load_LoadPastDeadline_FollowersTimeOutAndNextRequestLoadsAgain() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMillis(50), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stuck = executor.submit(() -> singleFlight.load("artist", 1, () -> {
+            started.countDown();
+            await(release);
+            return "Stale";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        assertThrows(SingleFlightTimeoutException.class, () -> singleFlight.load("artist", 1, () -> "Unused"));
+        String fresh = singleFlight.load("artist", 1, () -> "Fresh");
+
+        // Then
+        assertEquals("Fresh", fresh);
+        assertEquals(1.0, requests("timeout"));
+        assertEquals(2.0, requests("leader"));
+        release.countDown();
+        assertEquals("Stale", stuck.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ice.single-flight.requests").tag("name", "artist").tag("result", result).counter().count();
+    }
+
+    // Until that many test threads are blocked: the leader on its latch, the followers on its load
+    private void awaitWaiting(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("single-flight-test"))
+                .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+                .count() < count) {
+            assertTrue(System.nanoTime() < deadline, "Followers did not start waiting");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
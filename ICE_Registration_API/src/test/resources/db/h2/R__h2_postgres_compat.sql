@@ -0,0 +1,5 @@
+-- PostgreSQL functions used by the JDBC batch path that H2 does not provide.
+-- Batch track ids come from their own sequence, started well above the ids the
+-- identity column hands out during a test run.
+CREATE SEQUENCE IF NOT EXISTS track_batch_id_seq START WITH 1000000;
+CREATE ALIAS IF NOT EXISTS pg_get_serial_sequence AS 'String serialSequence(String table, String column) { return "track_batch_id_seq"; }';
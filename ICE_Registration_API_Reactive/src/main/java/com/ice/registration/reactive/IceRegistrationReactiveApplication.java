@@ -0,0 +1,14 @@
+package com.ice.registration.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class IceRegistrationReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(IceRegistrationReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ice.registration.reactive.controller;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.TrackDto;
+import com.ice.registration.reactive.service.ArtistService;
+import com.ice.registration.reactive.service.GenreService;
+import com.ice.registration.reactive.service.TrackService;
+import com.ice.registration.reactive.web.BinaryFormatsConfig;
+import com.ice.registration.web.ETags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The artist read endpoints of the servlet API's ArtistController, with the same paths, headers
+ * and bodies. Updates are served by the servlet API.
+ */
+@RestController
+@RequestMapping(value = "/api/artists", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.SMILE_VALUE})
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", exposedHeaders = {ArtistController.NEXT_CURSOR_HEADER, HttpHeaders.LINK, HttpHeaders.ETAG})
+public class ArtistController {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private TrackService trackService;
+
+    @Autowired
+    private GenreService genreService;
+
+    /**
+     * GET /api/artists/featured - Get featured artist (Artist of the day)
+     */
+    @GetMapping("/featured")
+    public Mono<ResponseEntity<ArtistDto>> getFeaturedArtist() {
+        return artistService.getFeaturedArtist().map(ResponseEntity::ok);
+    }
+
+    /**
+     * GET /api/artists?after={id}&limit={n} - Get a page of artists ordered by id.
+     * The cursor for the next page is returned in the X-Next-Cursor and Link headers.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<ArtistDto>>> getAllArtists(@RequestParam(required = false) Integer after,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               ServerHttpRequest request) {
+        return artistService.getAllArtists(after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                String next = UriComponentsBuilder.fromUri(request.getURI())
+                        .replaceQueryParam("after", page.getNextCursor())
+                        .replaceQueryParam("limit", page.getLimit())
+                        .toUriString();
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+                response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+            return response.body(page.getArtists());
+        });
+    }
+
+    /**
+     * GET /api/artists/{id} - Get artist by ID.
+     * The artist version is sent as the ETag, one per representation; a matching If-None-Match is
+     * answered with a 304 after a version-only lookup, without loading the artist.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ArtistDto>> getArtistById(@PathVariable Integer id,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Mono<ResponseEntity<ArtistDto>> artist = artistService.getArtistById(id)
+                .map(dto -> ResponseEntity.ok().eTag(ETags.forAccept(ETags.of(dto.getVersion()), accept)).body(dto))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+        if (ifNoneMatch == null) {
+            return artist;
+        }
+        return artistService.getArtistVersion(id)
+                .map(version -> ETags.forAccept(ETags.of(version), accept))
+                .filter(eTag -> ETags.matchesAny(ifNoneMatch, eTag))
+                .map(eTag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<ArtistDto>build())
+                .switchIfEmpty(artist);
+    }
+
+    /**
+     * GET /api/artists/{id}/tracks - Get tracks by artist ID.
+     * The ETag combines the artist version (bumped when its track set changes) with the genre
+     * snapshot version, since genre names are part of each track.
+     */
+    @GetMapping("/{id}/tracks")
+    public Mono<ResponseEntity<List<TrackDto>>> getTracksByArtistId(@PathVariable Integer id,
+                                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        // Read the version before the tracks: a concurrent change then yields a newer body under an
+        // older tag, which the next request corrects, never an older body under a newer tag
+        return artistService.getArtistVersion(id)
+                .zipWith(genreService.getSnapshot(), (version, snapshot) -> ETags.forAccept(ETags.of(version, snapshot.getVersion()), accept))
+                .map(eTag -> ETags.matchesAny(ifNoneMatch, eTag)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<List<TrackDto>>build())
+                        : trackService.getTracksByArtistId(id).map(tracks -> ResponseEntity.ok().eTag(eTag).body(tracks)))
+                .defaultIfEmpty(trackService.getTracksByArtistId(id).map(ResponseEntity::ok))
+                .flatMap(response -> response);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ice.registration.reactive.controller;
+
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Back-pressure at the connection pool: a request that cannot get a connection within
+ * {@code spring.r2dbc.pool.max-acquire-time} is answered with 503 and Retry-After, as the servlet
+ * API does for requests that cannot get a permit, instead of a 500.
+ */
+@RestControllerAdvice
+public class ConnectionPoolExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolExceptionHandler.class);
+
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Void> handleResourceFailure(DataAccessResourceFailureException e) throws DataAccessResourceFailureException {
+        if (!(e.getCause() instanceof R2dbcTimeoutException)) {
+            throw e;
+        }
+        log.warn("No database connection available: {}", e.getCause().getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+}
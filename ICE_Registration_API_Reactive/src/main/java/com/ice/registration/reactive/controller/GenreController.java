@@ -0,0 +1,36 @@
+package com.ice.registration.reactive.controller;
+
+import com.ice.registration.dto.GenreDto;
+import com.ice.registration.reactive.service.GenreService;
+import com.ice.registration.reactive.web.BinaryFormatsConfig;
+import com.ice.registration.web.ETags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/genres", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.SMILE_VALUE})
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", exposedHeaders = HttpHeaders.ETAG)
+public class GenreController {
+
+    @Autowired
+    private GenreService genreService;
+
+    /**
+     * GET /api/genres - Get all genres.
+     * The snapshot version is sent as the ETag, one per representation; a matching If-None-Match gets a 304 without a body.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<GenreDto>>> getAllGenres(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return genreService.getSnapshot().map(snapshot -> ResponseEntity.ok()
+                .eTag(ETags.forAccept(ETags.of(snapshot.getVersion()), accept))
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getGenres()));
+    }
+}
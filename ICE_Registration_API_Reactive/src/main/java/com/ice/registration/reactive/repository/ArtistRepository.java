@@ -0,0 +1,46 @@
+package com.ice.registration.reactive.repository;
+
+import com.ice.registration.dto.ArtistDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ArtistRepository {
+
+    private static final String COLUMNS = "SELECT id, name, picture, description, track_count, version FROM artist ";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    // Keyset page: seeks on the primary key, so cost does not grow with the offset
+    public Flux<ArtistDto> findPageAfter(int after, int limit) {
+        return databaseClient.sql(COLUMNS + "WHERE id > :after ORDER BY id LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ArtistRepository::toDto)
+                .all();
+    }
+
+    public Mono<ArtistDto> findDtoById(Integer id) {
+        return databaseClient.sql(COLUMNS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ArtistRepository::toDto)
+                .one();
+    }
+
+    public Mono<Long> findVersionById(Integer id) {
+        return databaseClient.sql("SELECT version FROM artist WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static ArtistDto toDto(Readable row) {
+        return new ArtistDto(row.get("id", Integer.class), row.get("name", String.class), row.get("picture", String.class),
+                row.get("description", String.class), row.get("track_count", Integer.class), row.get("version", Long.class));
+    }
+}
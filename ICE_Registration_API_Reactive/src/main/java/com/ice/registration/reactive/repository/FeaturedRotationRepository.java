@@ -0,0 +1,67 @@
+package com.ice.registration.reactive.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * The Artist of the Day rotation tables, with the same statements as the servlet API so the
+ * two stacks can share one rotation.
+ */
+@Repository
+public class FeaturedRotationRepository {
+
+    private static final int STATE_ID = 1;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    // Row lock serializes enrollment and cycle rollover across application instances
+    public Mono<LocalDate> findCycleStartDayForUpdate() {
+        return databaseClient.sql("SELECT cycle_start_day FROM featured_rotation_state WHERE id = :id FOR UPDATE")
+                .bind("id", STATE_ID)
+                .map(row -> row.get(0, LocalDate.class))
+                .one();
+    }
+
+    public Mono<Long> saveCycleStartDay(LocalDate cycleStartDay) {
+        return databaseClient.sql("UPDATE featured_rotation_state SET cycle_start_day = :day WHERE id = :id")
+                .bind("day", cycleStartDay)
+                .bind("id", STATE_ID)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0 ? Mono.just(updated) : databaseClient
+                        .sql("INSERT INTO featured_rotation_state (id, cycle_start_day) VALUES (:id, :day)")
+                        .bind("id", STATE_ID)
+                        .bind("day", cycleStartDay)
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    // Appends artists that are not yet in the rotation after the last slot, in shuffled order
+    public Mono<Long> enrollNewArtists() {
+        return databaseClient.sql("INSERT INTO featured_rotation (slot, artist_id) " +
+                        "SELECT (SELECT COALESCE(MAX(slot), -1) FROM featured_rotation) + ROW_NUMBER() OVER (ORDER BY random()), a.id " +
+                        "FROM artist a " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM featured_rotation r WHERE r.artist_id = a.id)")
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> findLastSlot() {
+        return databaseClient.sql("SELECT COALESCE(MAX(slot), -1) FROM featured_rotation")
+                .map(row -> row.get(0, Integer.class))
+                .one();
+    }
+
+    // Slots are contiguous unless an artist was deleted; this skips over any such gap
+    public Mono<Integer> findArtistIdAtOrAfterSlot(int slot) {
+        return databaseClient.sql("SELECT artist_id FROM featured_rotation WHERE slot >= :slot ORDER BY slot LIMIT 1")
+                .bind("slot", slot)
+                .map(row -> row.get(0, Integer.class))
+                .one();
+    }
+}
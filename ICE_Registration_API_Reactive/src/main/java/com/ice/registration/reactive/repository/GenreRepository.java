@@ -0,0 +1,20 @@
+package com.ice.registration.reactive.repository;
+
+import com.ice.registration.dto.GenreDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public class GenreRepository {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<GenreDto> findAll() {
+        return databaseClient.sql("SELECT id, description FROM genre")
+                .map(row -> new GenreDto(row.get(0, Integer.class), row.get(1, String.class)))
+                .all();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ice.registration.reactive.repository;
+
+import com.ice.registration.dto.TrackDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public class TrackRepository {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    // Same read model, rows and order as the servlet API (tracks without a genre are not in the view)
+    public Flux<TrackDto> findDtosByArtistId(Integer artistId) {
+        return databaseClient.sql("SELECT track_id, title, genre, length_seconds FROM artist_track_view " +
+                        "WHERE artist_id = :artistId ORDER BY track_id")
+                .bind("artistId", artistId)
+                .map(row -> new TrackDto(row.get(0, Integer.class), row.get(1, String.class), row.get(2, String.class),
+                        row.get(3, Integer.class)))
+                .all();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ice.registration.reactive.service;
+
+import com.ice.registration.reactive.repository.FeaturedRotationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Fair round-robin rotation for Artist of the Day, over the same tables and with the same rules
+ * as the servlet API: day d of a cycle features slot d, and artists added since the last lookup
+ * are appended after the last slot.
+ */
+@Service
+public class ArtistRotationService {
+
+    @Autowired
+    private FeaturedRotationRepository rotationRepository;
+
+    /**
+     * Returns the id of the artist featured on {@code day}, enrolling new artists and
+     * starting a new cycle when the current one has run past the last slot.
+     */
+    @Transactional
+    public Mono<Integer> getFeaturedArtistId(LocalDate day) {
+        return rotationRepository.findCycleStartDayForUpdate()
+                .defaultIfEmpty(day)
+                .flatMap(cycleStartDay -> rotationRepository.enrollNewArtists()
+                        .then(rotationRepository.findLastSlot())
+                        .flatMap(lastSlot -> {
+                            int cycleLength = lastSlot + 1;
+                            if (cycleLength == 0) {
+                                return Mono.error(new RuntimeException("No artists available"));
+                            }
+
+                            long offset = day.toEpochDay() - cycleStartDay.toEpochDay();
+                            if (offset < 0 || offset >= cycleLength) {
+                                // Cycle complete (or the clock moved back): keep the same permutation and
+                                // realign the cycle start so that today lands on the slot it would have anyway
+                                offset = Math.floorMod(offset, cycleLength);
+                            }
+                            int slot = (int) offset;
+                            return rotationRepository.saveCycleStartDay(day.minusDays(slot))
+                                    .then(rotationRepository.findArtistIdAtOrAfterSlot(slot));
+                        }))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Featured artist not found")));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ice.registration.reactive.service;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.dto.ArtistPageDto;
+import com.ice.registration.reactive.repository.ArtistRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ArtistService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Artists are edited through the servlet API, which cannot evict this cache, so it is also re-read periodically
+    static final Duration FEATURED_ARTIST_TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private ArtistRotationService artistRotationService;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private volatile FeaturedArtist featuredArtist;
+
+    /**
+     * Returns the page of artists whose id is greater than {@code after}, ordered by id.
+     * One extra row is fetched to tell whether another page follows.
+     */
+    public Mono<ArtistPageDto> getAllArtists(Integer after, Integer limit) {
+        int pageSize = limit == null || limit < 1 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        int cursor = after == null ? 0 : after;
+
+        return artistRepository.findPageAfter(cursor, pageSize + 1)
+                .collectList()
+                .map(artists -> {
+                    Integer nextCursor = null;
+                    List<ArtistDto> page = artists;
+                    if (artists.size() > pageSize) {
+                        page = new ArrayList<>(artists.subList(0, pageSize));
+                        nextCursor = page.get(pageSize - 1).getId();
+                    }
+                    return new ArtistPageDto(page, nextCursor, pageSize);
+                });
+    }
+
+    public Mono<ArtistDto> getArtistById(Integer id) {
+        return artistRepository.findDtoById(id);
+    }
+
+    public Mono<Long> getArtistVersion(Integer id) {
+        return artistRepository.findVersionById(id);
+    }
+
+    /**
+     * Returns the Artist of the Day. Concurrent requests share one lookup, whose result is
+     * cached for the rest of the day (up to {@link #FEATURED_ARTIST_TTL}); a failed lookup is
+     * not cached.
+     */
+    public Mono<ArtistDto> getFeaturedArtist() {
+        LocalDate today = LocalDate.now(clock);
+        FeaturedArtist current = featuredArtist;
+        if (current != null && current.day().equals(today)) {
+            return current.artist();
+        }
+
+        synchronized (this) {
+            current = featuredArtist;
+            if (current == null || !current.day().equals(today)) {
+                Mono<ArtistDto> artist = Mono.defer(() -> artistRotationService.getFeaturedArtistId(today))
+                        .flatMap(artistRepository::findDtoById)
+                        .switchIfEmpty(Mono.error(() -> new RuntimeException("Featured artist not found")))
+                        .cache(value -> FEATURED_ARTIST_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+                current = new FeaturedArtist(today, artist);
+                featuredArtist = current;
+            }
+            return current.artist();
+        }
+    }
+
+    private record FeaturedArtist(LocalDate day, Mono<ArtistDto> artist) {}
+}
@@ -0,0 +1,53 @@
+package com.ice.registration.reactive.service;
+
+import com.ice.registration.reactive.repository.GenreRepository;
+import com.ice.registration.service.GenreSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves genres from an in-memory snapshot, loaded on first use and re-read on a fixed delay;
+ * requests never touch the database.
+ */
+@Service
+public class GenreService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreService.class);
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private volatile GenreSnapshot snapshot;
+
+    public Mono<GenreSnapshot> getSnapshot() {
+        GenreSnapshot current = snapshot;
+        return current != null ? Mono.just(current) : refresh();
+    }
+
+    /**
+     * Reloads the genre table. The current snapshot is kept when nothing changed, so its
+     * version stays stable and clients holding it keep getting 304s.
+     */
+    @Scheduled(fixedDelayString = "${ice.genres.refresh-interval}")
+    public Mono<GenreSnapshot> refresh() {
+        return genreRepository.findAll()
+                .collectList()
+                .map(GenreSnapshot::of)
+                .map(this::swap);
+    }
+
+    private synchronized GenreSnapshot swap(GenreSnapshot loaded) {
+        GenreSnapshot current = snapshot;
+        if (current != null && current.getVersion().equals(loaded.getVersion())) {
+            return current;
+        }
+
+        snapshot = loaded;
+        log.info("Loaded {} genres, version {}", loaded.getGenres().size(), loaded.getVersion());
+        return loaded;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ice.registration.reactive.service;
+
+import com.ice.registration.dto.TrackDto;
+import com.ice.registration.reactive.repository.TrackRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+public class TrackService {
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    public Mono<List<TrackDto>> getTracksByArtistId(Integer artistId) {
+        return trackRepository.findDtosByArtistId(artistId).collectList();
+    }
+}
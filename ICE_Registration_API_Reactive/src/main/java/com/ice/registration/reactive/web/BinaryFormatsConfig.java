@@ -0,0 +1,50 @@
+package com.ice.registration.reactive.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * CBOR and Smile encodings of the read API, chosen with the Accept header as on the servlet API
+ * (the CBOR schema is published there). JSON stays the default: custom codecs are consulted
+ * before the default JSON one, so the controllers list what they produce, JSON first.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    @Bean
+    public CodecCustomizer binaryFormatsCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+        return configurer -> {
+            configurer.customCodecs().register(new CborEncoder(builder.factory(new CBORFactory()).build()));
+            configurer.customCodecs().register(new Jackson2CborDecoder(builder.factory(new CBORFactory()).build(), MediaType.APPLICATION_CBOR));
+            // Smile is a default codec when on the classpath, but built without Boot's ObjectMapper settings
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(builder.factory(new SmileFactory()).build(), SMILE));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(builder.factory(new SmileFactory()).build(), SMILE));
+        };
+    }
+
+    /**
+     * The same URL has several representations under one ETag, so shared caches must key on Accept.
+     */
+    @Bean
+    public WebFilter varyByAcceptFilter() {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getPath().value().startsWith("/api/")) {
+                exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+            return chain.filter(exchange);
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.ice.registration.reactive.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ice.registration.reactive.controller.ArtistController;
+import com.ice.registration.dto.ArtistDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The read endpoints end to end over R2DBC, checked against the contract of the servlet API:
+ * same bodies, cursor headers and ETags.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("it")
+class ReactiveApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void getAllArtists_PagesWithCursorHeaders() {
+        webTestClient.get().uri("/api/artists?limit=2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ArtistController.NEXT_CURSOR_HEADER, "2")
+                .expectHeader().value(HttpHeaders.LINK, link -> assertTrue(link.contains("after=2&limit=2"), link))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].name").isEqualTo("Generic Indie Landfill Band")
+                .jsonPath("$[0].trackCount").isEqualTo(2);
+
+        webTestClient.get().uri("/api/artists?after=2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(ArtistController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(3);
+    }
+
+    @Test
+    void getArtistById_NotModifiedForMatchingETag() {
+        String eTag = webTestClient.get().uri("/api/artists/1").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.photo").isNotEmpty()
+                .returnResult().getResponseHeaders().getETag();
+
+        assertEquals("\"0\"", eTag);
+        webTestClient.get().uri("/api/artists/1").header(HttpHeaders.IF_NONE_MATCH, eTag).exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getArtistById_UnknownArtistIsNotFound() {
+        webTestClient.get().uri("/api/artists/999").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getArtistTracks_ETagCombinesArtistAndGenreVersions() {
+        String genresETag = webTestClient.get().uri("/api/genres").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(3)
+                .returnResult().getResponseHeaders().getETag();
+
+        String eTag = webTestClient.get().uri("/api/artists/1/tracks").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[?(@.title == 'Coffee and Rain')].formattedLength").isEqualTo("3:34")
+                .returnResult().getResponseHeaders().getETag();
+
+        assertEquals("\"0." + genresETag.replace("\"", "") + "\"", eTag);
+        webTestClient.get().uri("/api/artists/1/tracks").header(HttpHeaders.IF_NONE_MATCH, eTag).exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getArtistTracks_CborOnRequest() throws Exception {
+        byte[] body = webTestClient.get().uri("/api/artists/1/tracks").accept(MediaType.APPLICATION_CBOR).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectHeader().value(HttpHeaders.VARY, vary -> assertTrue(vary.contains(HttpHeaders.ACCEPT), vary))
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        JsonNode tracks = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals(2, tracks.size());
+        assertTrue(tracks.get(0).has("formattedLength"));
+    }
+
+    @Test
+    void getArtistById_CborHasItsOwnETag() {
+        String jsonETag = webTestClient.get().uri("/api/artists/1").exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        String cborETag = webTestClient.get().uri("/api/artists/1").accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonETag).exchange()
+                .expectStatus().isOk()
+                .returnResult(byte[].class).getResponseHeaders().getETag();
+
+        assertEquals("\"0+cbor\"", cborETag);
+        webTestClient.get().uri("/api/artists/1").accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cborETag).exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getFeaturedArtist_SameArtistForTheDay() {
+        ArtistDto first = featuredArtist();
+
+        assertNotNull(first.getId());
+        assertEquals(first.getId(), featuredArtist().getId());
+    }
+
+    private ArtistDto featuredArtist() {
+        return webTestClient.get().uri("/api/artists/featured").exchange()
+                .expectStatus().isOk()
+                .expectBody(ArtistDto.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,109 @@
+package com.ice.registration.reactive.service;
+
+import com.ice.registration.dto.ArtistDto;
+import com.ice.registration.reactive.repository.ArtistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArtistServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private ArtistRotationService artistRotationService;
+
+    @InjectMocks
+    private ArtistService artistService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(artistService, "clock",
+                Clock.fixed(Instant.parse("2026-01-15T10:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void getAllArtists_FetchesOneExtraRowForNextCursor() {
+        // Given
+        when(artistRepository.findPageAfter(0, 3)).thenReturn(Flux.just(artist(1), artist(2), artist(3)));
+
+        // When / Then
+        StepVerifier.create(artistService.getAllArtists(null, 2))
+                .assertNext(page -> {
+                    assertEquals(2, page.getArtists().size());
+                    assertEquals(2, page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllArtists_LastPageHasNoNextCursor() {
+        // Given
+        when(artistRepository.findPageAfter(2, 3)).thenReturn(Flux.just(artist(3)));
+
+        // When / Then
+        StepVerifier.create(artistService.getAllArtists(2, 2))
+                .assertNext(page -> {
+                    assertEquals(1, page.getArtists().size());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getFeaturedArtist_LooksUpOncePerDay() {
+        // Given
+        when(artistRotationService.getFeaturedArtistId(TODAY)).thenReturn(Mono.just(2));
+        when(artistRepository.findDtoById(2)).thenReturn(Mono.just(artist(2)));
+
+        // When
+        ArtistDto first = artistService.getFeaturedArtist().block();
+        ArtistDto second = artistService.getFeaturedArtist().block();
+
+        // Then
+        assertEquals(2, first.getId());
+        assertSame(first, second);
+        verify(artistRotationService, times(1)).getFeaturedArtistId(TODAY);
+    }
+
+    @Test
+    void getFeaturedArtist_FailedLookupIsRetried() {
+        // Given
+        when(artistRotationService.getFeaturedArtistId(TODAY))
+                .thenReturn(Mono.error(new RuntimeException("No artists available")))
+                .thenReturn(Mono.just(2));
+        when(artistRepository.findDtoById(2)).thenReturn(Mono.just(artist(2)));
+
+        // When / Then
+        StepVerifier.create(artistService.getFeaturedArtist()).verifyError(RuntimeException.class);
+        StepVerifier.create(artistService.getFeaturedArtist())
+                .assertNext(artist -> assertEquals(2, artist.getId()))
+                .verifyComplete();
+    }
+
+    private static ArtistDto artist(int id) {
+        ArtistDto artist = new ArtistDto();
+        artist.setId(id);
+        artist.setName("Artist " + id);
+        return artist;
+    }
+}
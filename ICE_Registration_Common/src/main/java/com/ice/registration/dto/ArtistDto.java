@@ -1,5 +1,7 @@
 package com.ice.registration.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class ArtistDto {
 
     private Integer id;
@@ -11,6 +13,10 @@ public class ArtistDto {
     private String description;
 
     private int trackCount;
+
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private long version;
     
     // Default constructor
     public ArtistDto() {}
@@ -23,6 +29,11 @@ public class ArtistDto {
         this.description = description;
         this.trackCount = trackCount;
     }
+
+    public ArtistDto(Integer id, String name, String photo, String description, int trackCount, long version) {
+        this(id, name, photo, description, trackCount);
+        this.version = version;
+    }
     
     // Getters and Setters
     public Integer getId() {
@@ -64,4 +75,12 @@ public class ArtistDto {
     public void setTrackCount(int trackCount) {
         this.trackCount = trackCount;
     }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
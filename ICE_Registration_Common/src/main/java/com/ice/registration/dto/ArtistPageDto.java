@@ -0,0 +1,32 @@
+package com.ice.registration.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of artists, ordered by id. {@code nextCursor} is the id to pass as
+ * {@code after} for the following page, or null when this is the last page.
+ */
+public class ArtistPageDto {
+
+    private List<ArtistDto> artists;
+    private Integer nextCursor;
+    private int limit;
+
+    public ArtistPageDto() {}
+
+    public ArtistPageDto(List<ArtistDto> artists, Integer nextCursor, int limit) {
+        this.artists = artists;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // Getters and setters
+    public List<ArtistDto> getArtists() { return artists; }
+    public void setArtists(List<ArtistDto> artists) { this.artists = artists; }
+
+    public Integer getNextCursor() { return nextCursor; }
+    public void setNextCursor(Integer nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
@@ -1,5 +1,7 @@
 package com.ice.registration.dto;
 
+import com.ice.registration.util.DurationFormat;
+
 import java.util.List;
 
 public class TrackDto {
@@ -15,6 +17,12 @@ public class TrackDto {
 
     public TrackDto() {}
 
+    // Used by JPQL projections; the formatted length is derived rather than selected
+    public TrackDto(Integer id, String title, String genre, Integer lengthSeconds) {
+        this(id, title, genre, lengthSeconds,
+                lengthSeconds != null ? DurationFormat.minutesSeconds(lengthSeconds) : "0:00");
+    }
+
     public TrackDto(Integer id, String title, String genre, Integer lengthSeconds, String formattedLength) {
         this.id = id;
         this.title = title;
@@ -0,0 +1,62 @@
+package com.ice.registration.service;
+
+import com.ice.registration.dto.GenreDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Immutable copy of the genre table. The version is a hash of the content (not a counter),
+ * so every instance of either API holding the same genres reports the same version and an
+ * ETag issued by one instance is honoured by the others.
+ */
+public final class GenreSnapshot {
+
+    private final String version;
+    private final List<GenreDto> genres;
+    private final Map<Integer, GenreDto> genresById;
+
+    private GenreSnapshot(String version, List<GenreDto> genres, Map<Integer, GenreDto> genresById) {
+        this.version = version;
+        this.genres = genres;
+        this.genresById = genresById;
+    }
+
+    public static GenreSnapshot of(List<GenreDto> genres) {
+        List<GenreDto> dtos = List.copyOf(genres);
+        Map<Integer, GenreDto> byId = new HashMap<>();
+        for (GenreDto dto : dtos) {
+            byId.put(dto.getId(), dto);
+        }
+        return new GenreSnapshot(versionOf(dtos), dtos, Collections.unmodifiableMap(byId));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<GenreDto> getGenres() {
+        return genres;
+    }
+
+    public Optional<GenreDto> findById(Integer id) {
+        return Optional.ofNullable(genresById.get(id));
+    }
+
+    // Hashed in id order so the version does not depend on the order rows come back in
+    private static String versionOf(List<GenreDto> genres) {
+        List<GenreDto> sorted = new ArrayList<>(genres);
+        sorted.sort(Comparator.comparing(GenreDto::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (GenreDto genre : sorted) {
+                digest.update((genre.getId() + ":" + genre.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
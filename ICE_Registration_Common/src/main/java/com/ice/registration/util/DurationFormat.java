@@ -0,0 +1,42 @@
+package com.ice.registration.util;
+
+/**
+ * Formats track lengths as M:SS without going through {@link String#format}.
+ * Lengths up to 99:59 are served from a precomputed table, so formatting a
+ * typical track returns a shared string and allocates nothing.
+ */
+public final class DurationFormat {
+
+    private static final int TABLE_SIZE = 100 * 60;
+
+    private static final String[] TABLE = new String[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            TABLE[i] = build(i);
+        }
+    }
+
+    private DurationFormat() {}
+
+    public static String minutesSeconds(int totalSeconds) {
+        if (totalSeconds >= 0 && totalSeconds < TABLE_SIZE) {
+            return TABLE[totalSeconds];
+        }
+        if (totalSeconds < 0) {
+            // Keep the historical output for invalid lengths
+            return String.format("%d:%02d", totalSeconds / 60, totalSeconds % 60);
+        }
+        return build(totalSeconds);
+    }
+
+    private static String build(int totalSeconds) {
+        int seconds = totalSeconds % 60;
+        return new StringBuilder(8)
+                .append(totalSeconds / 60)
+                .append(':')
+                .append((char) ('0' + seconds / 10))
+                .append((char) ('0' + seconds % 10))
+                .toString();
+    }
+}
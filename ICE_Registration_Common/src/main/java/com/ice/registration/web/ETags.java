@@ -0,0 +1,108 @@
+package com.ice.registration.web;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Helpers for the strong entity-tag validators used by the artist endpoints of both APIs, so an
+ * ETag issued by one is honoured by the other.
+ *
+ * A strong ETag promises byte-identical bodies, so the JSON, CBOR and Smile representations of a
+ * resource get different tags: JSON keeps the plain tag, the binary formats add a suffix.
+ */
+public final class ETags {
+
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, MediaType.parseMediaType("application/x-jackson-smile"));
+    private static final List<String> SUFFIXES = List.of("", "+cbor", "+smile");
+
+    private ETags() {}
+
+    public static String of(Object... parts) {
+        StringBuilder tag = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                tag.append('.');
+            }
+            tag.append(parts[i]);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * The tag of the representation content negotiation picks for {@code accept}: the acceptable
+     * type with the highest quality, the earlier one in the header on a tie, and JSON first for
+     * wildcards. An unreadable or unsatisfiable header gets the JSON tag.
+     */
+    public static String forAccept(String eTag, String accept) {
+        if (accept == null || accept.isBlank()) {
+            return eTag;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return eTag;
+        }
+        int chosen = 0;
+        double bestQuality = 0;
+        for (MediaType acceptedType : accepted) {
+            for (int i = 0; i < REPRESENTATIONS.size(); i++) {
+                if (acceptedType.getQualityValue() > bestQuality && acceptedType.includes(REPRESENTATIONS.get(i))) {
+                    chosen = i;
+                    bestQuality = acceptedType.getQualityValue();
+                }
+            }
+        }
+        return eTag.substring(0, eTag.length() - 1) + SUFFIXES.get(chosen) + "\"";
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, so W/ prefixes are ignored.
+     */
+    public static boolean matchesAny(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the version out of an If-Match header holding a single strong ETag of any representation.
+     * Returns null for a missing header or "*", and -1 for anything that can never match.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String trimmed = ifMatch.trim();
+        if (trimmed.length() < 2 || !trimmed.startsWith("\"") || !trimmed.endsWith("\"")) {
+            return -1L;
+        }
+        String opaque = trimmed.substring(1, trimmed.length() - 1);
+        for (String suffix : SUFFIXES) {
+            if (!suffix.isEmpty() && opaque.endsWith(suffix)) {
+                opaque = opaque.substring(0, opaque.length() - suffix.length());
+            }
+        }
+        try {
+            return Long.parseLong(opaque);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ice.registration.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void forAccept_JsonKeepsPlainTag() {
+        assertEquals("\"7\"", ETags.forAccept("\"7\"", null));
+        assertEquals("\"7\"", ETags.forAccept("\"7\"", "application/json"));
+        assertEquals("\"7\"", ETags.forAccept("\"7\"", "*/*"));
+        assertEquals("\"7\"", ETags.forAccept("\"7\"", "not a media type"));
+    }
+
+    @Test
+    void forAccept_BinaryFormatsGetTheirOwnTag() {
+        assertEquals("\"7.ab12\"", ETags.forAccept("\"7.ab12\"", "application/json"));
+        assertEquals("\"7.ab12+cbor\"", ETags.forAccept("\"7.ab12\"", "application/cbor"));
+        assertEquals("\"7+smile\"", ETags.forAccept("\"7\"", "application/x-jackson-smile"));
+    }
+
+    @Test
+    void forAccept_FollowsQualityThenHeaderOrder() {
+        assertEquals("\"7+cbor\"", ETags.forAccept("\"7\"", "application/cbor, application/json"));
+        assertEquals("\"7\"", ETags.forAccept("\"7\"", "application/cbor;q=0.5, application/json"));
+        assertEquals("\"7+smile\"", ETags.forAccept("\"7\"", "application/x-jackson-smile, */*;q=0.1"));
+    }
+
+    @Test
+    void parseVersion_AcceptsTagOfAnyRepresentation() {
+        assertEquals(7L, ETags.parseVersion("\"7\""));
+        assertEquals(7L, ETags.parseVersion("\"7+cbor\""));
+        assertEquals(7L, ETags.parseVersion("\"7+smile\""));
+        assertNull(ETags.parseVersion("*"));
+        assertEquals(-1L, ETags.parseVersion("W/\"7\""));
+        assertEquals(-1L, ETags.parseVersion("\"7+xml\""));
+    }
+}
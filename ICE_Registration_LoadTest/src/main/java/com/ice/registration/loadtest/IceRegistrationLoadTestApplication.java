@@ -0,0 +1,91 @@
+package com.ice.registration.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.loadtest.report.BaselineComparison;
+import com.ice.registration.loadtest.report.ReportWriter;
+import com.ice.registration.loadtest.report.ScenarioReport;
+import com.ice.registration.loadtest.scenario.ApiClient;
+import com.ice.registration.loadtest.scenario.Catalogue;
+import com.ice.registration.loadtest.scenario.LoadTestProperties;
+import com.ice.registration.loadtest.scenario.ScenarioRunner;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs a load test scenario against a running API and reports latency percentiles and throughput:
+ *
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments="--scenario=read-heavy --save-baseline"
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments="--scenario=read-heavy --baseline=baselines/read-heavy.json"
+ * </pre>
+ *
+ * Every run is written to {@code ice.loadtest.report-directory}. {@code --save-baseline} also keeps it
+ * as the scenario's baseline; {@code --baseline} compares the run with a saved one (by default the
+ * scenario's) and exits with status 2 if anything regressed beyond {@code ice.loadtest.tolerance}.
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class IceRegistrationLoadTestApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(IceRegistrationLoadTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+
+        int exitCode = 0;
+        try {
+            exitCode = run(context.getBean(ApplicationArguments.class), context.getBean(LoadTestProperties.class),
+                    context.getBean(ObjectMapper.class));
+        } catch (Exception e) {
+            System.err.println("Load test failed: " + e.getMessage());
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    private static int run(ApplicationArguments arguments, LoadTestProperties properties, ObjectMapper objectMapper)
+            throws Exception {
+        String name = arguments.containsOption("scenario") ? arguments.getOptionValues("scenario").get(0) : null;
+        LoadTestProperties.Scenario scenario = properties.getScenarios().get(name);
+        if (scenario == null) {
+            throw new RuntimeException("Choose a scenario with --scenario=<name>, one of " + properties.getScenarios().keySet());
+        }
+
+        ApiClient apiClient = new ApiClient(properties.getBaseUrl(), properties.getRequestTimeout(), objectMapper);
+        Catalogue catalogue = apiClient.loadCatalogue(properties.getMaxArtists());
+        ScenarioReport report = new ScenarioRunner(apiClient, properties.getBaseUrl()).run(name, scenario, catalogue);
+
+        ReportWriter reportWriter = new ReportWriter(objectMapper);
+        System.out.println(ReportWriter.format(report));
+        System.out.println("Report written to " + reportWriter.writeRun(report, properties.getReportDirectory()));
+
+        int exitCode = 0;
+        if (arguments.containsOption("baseline")) {
+            Path baselineFile = arguments.getOptionValues("baseline").isEmpty()
+                    ? ReportWriter.baselineFile(name, properties.getBaselineDirectory())
+                    : Path.of(arguments.getOptionValues("baseline").get(0));
+            if (!Files.exists(baselineFile)) {
+                throw new RuntimeException("No baseline at " + baselineFile + "; save one with --save-baseline");
+            }
+            BaselineComparison comparison = BaselineComparison.compare(
+                    reportWriter.read(baselineFile), report, properties.getTolerance());
+            System.out.println("Compared with " + baselineFile + ":");
+            System.out.println(comparison.format());
+            exitCode = comparison.hasRegressions() ? 2 : 0;
+        }
+        if (arguments.containsOption("save-baseline")) {
+            System.out.println("Baseline saved to " + reportWriter.writeBaseline(report, properties.getBaselineDirectory()));
+        }
+        return exitCode;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ice.registration.loadtest.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares a run with a saved baseline of the same scenario, operation by operation. A change is a
+ * regression when p50 or p99 latency grows, or throughput falls, by more than the tolerance, or the
+ * share of failed requests grows by more than a percentage point.
+ */
+public class BaselineComparison {
+
+    // Sub-millisecond latencies vary by more than any sensible tolerance from run to run
+    private static final double MIN_LATENCY_CHANGE_MILLIS = 1;
+
+    private static final double MAX_ERROR_RATE_INCREASE = 0.01;
+
+    private final List<Change> changes;
+
+    private BaselineComparison(List<Change> changes) {
+        this.changes = changes;
+    }
+
+    public static BaselineComparison compare(ScenarioReport baseline, ScenarioReport current, double tolerance) {
+        List<Change> changes = new ArrayList<>();
+        List<OperationStats> operations = new ArrayList<>(current.getOperations());
+        operations.add(current.getTotal());
+        for (OperationStats now : operations) {
+            OperationStats before = "TOTAL".equals(now.getOperation())
+                    ? baseline.getTotal() : baseline.findOperation(now.getOperation());
+            if (before == null) {
+                continue;
+            }
+            changes.add(latency(now.getOperation(), "p50 ms", before.getP50Millis(), now.getP50Millis(), tolerance));
+            changes.add(latency(now.getOperation(), "p99 ms", before.getP99Millis(), now.getP99Millis(), tolerance));
+            changes.add(new Change(now.getOperation(), "throughput/s", before.getThroughput(), now.getThroughput(),
+                    now.getThroughput() < before.getThroughput() * (1 - tolerance)));
+            changes.add(new Change(now.getOperation(), "error %", before.errorRate() * 100, now.errorRate() * 100,
+                    now.errorRate() > before.errorRate() + MAX_ERROR_RATE_INCREASE));
+        }
+        return new BaselineComparison(changes);
+    }
+
+    private static Change latency(String operation, String metric, double before, double now, double tolerance) {
+        boolean regression = now > before * (1 + tolerance) && now - before > MIN_LATENCY_CHANGE_MILLIS;
+        return new Change(operation, metric, before, now, regression);
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean hasRegressions() {
+        return changes.stream().anyMatch(Change::regression);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-16s %-13s %10s %10s %8s%n",
+                "Operation", "Metric", "Baseline", "Current", "Change"));
+        for (Change change : changes) {
+            table.append(String.format(Locale.ROOT, "%-16s %-13s %10.2f %10.2f %7s%s%n",
+                    change.operation(), change.metric(), change.baseline(), change.current(),
+                    change.formatPercent(), change.regression() ? "  REGRESSION" : ""));
+        }
+        return table.toString();
+    }
+
+    public record Change(String operation, String metric, double baseline, double current, boolean regression) {
+
+        String formatPercent() {
+            if (baseline == 0) {
+                return current == 0 ? "0%" : "n/a";
+            }
+            return String.format(Locale.ROOT, "%+.0f%%", (current - baseline) / baseline * 100);
+        }
+    }
+}
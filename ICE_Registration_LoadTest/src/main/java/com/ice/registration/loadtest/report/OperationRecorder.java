@@ -0,0 +1,38 @@
+package com.ice.registration.loadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one operation, recorded concurrently by the request threads.
+ * Latency runs from the request's intended start, so time spent behind a stalled server or
+ * generator is counted rather than hidden (coordinated omission).
+ */
+public class OperationRecorder {
+
+    // Microsecond resolution up to an hour, three significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public void recordResponse(long latencyNanos, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    // The generator had too many requests outstanding to start this one
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public OperationStats toStats(String operation, double durationSeconds) {
+        return OperationStats.of(operation, latency, errors.sum(), dropped.sum(), durationSeconds);
+    }
+}
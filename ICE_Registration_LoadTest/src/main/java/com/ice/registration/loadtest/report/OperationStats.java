@@ -0,0 +1,168 @@
+package com.ice.registration.loadtest.report;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+
+/**
+ * Summary of one operation in a run. The full latency histogram is kept, compressed and base64
+ * encoded as in HdrHistogram's log format, so percentiles not summarised here can be read back later.
+ */
+public class OperationStats {
+
+    private String operation;
+    private long requests;
+    private long errors;
+    private long dropped;
+    private double throughput;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double p999Millis;
+    private double maxMillis;
+    private String histogram;
+
+    public OperationStats() {}
+
+    static OperationStats of(String operation, Histogram latency, long errors, long dropped, double durationSeconds) {
+        OperationStats stats = new OperationStats();
+        stats.operation = operation;
+        stats.requests = latency.getTotalCount();
+        stats.errors = errors;
+        stats.dropped = dropped;
+        stats.throughput = round((latency.getTotalCount() - errors) / durationSeconds);
+        stats.p50Millis = millis(latency.getValueAtPercentile(50));
+        stats.p90Millis = millis(latency.getValueAtPercentile(90));
+        stats.p99Millis = millis(latency.getValueAtPercentile(99));
+        stats.p999Millis = millis(latency.getValueAtPercentile(99.9));
+        stats.maxMillis = millis(latency.getMaxValue());
+        ByteBuffer buffer = ByteBuffer.allocate(latency.getNeededByteBufferCapacity());
+        latency.encodeIntoCompressedByteBuffer(buffer);
+        stats.histogram = Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+        return stats;
+    }
+
+    static OperationStats total(Iterable<OperationStats> operations, double durationSeconds) {
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        for (OperationStats stats : operations) {
+            all.add(stats.decodeHistogram());
+            errors += stats.errors;
+            dropped += stats.dropped;
+        }
+        return of("TOTAL", all, errors, dropped, durationSeconds);
+    }
+
+    public Histogram decodeHistogram() {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(histogram)), 0);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Unreadable histogram for " + operation, e);
+        }
+    }
+
+    public double errorRate() {
+        return requests + dropped == 0 ? 0 : (double) (errors + dropped) / (requests + dropped);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000d);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100d;
+    }
+
+    // Getters and setters
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public void setThroughput(double throughput) {
+        this.throughput = throughput;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public void setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public void setP90Millis(double p90Millis) {
+        this.p90Millis = p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public void setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public void setP999Millis(double p999Millis) {
+        this.p999Millis = p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    public String getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(String histogram) {
+        this.histogram = histogram;
+    }
+}
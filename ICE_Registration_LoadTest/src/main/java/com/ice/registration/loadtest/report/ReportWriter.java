@@ -0,0 +1,67 @@
+package com.ice.registration.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes scenario reports as JSON and prints them as tables.
+ */
+public class ReportWriter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper;
+
+    public ReportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    // Each run is kept under its start time, e.g. target/loadtest/read-heavy-20250601-100000.json
+    public Path writeRun(ScenarioReport report, Path directory) throws IOException {
+        return write(report, directory.resolve(report.getScenario() + "-" + FILE_TIMESTAMP.format(report.getStartedAt()) + ".json"));
+    }
+
+    public Path writeBaseline(ScenarioReport report, Path directory) throws IOException {
+        return write(report, baselineFile(report.getScenario(), directory));
+    }
+
+    public ScenarioReport read(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), ScenarioReport.class);
+    }
+
+    public static Path baselineFile(String scenario, Path directory) {
+        return directory.resolve(scenario + ".json");
+    }
+
+    public static String format(ScenarioReport report) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "Scenario %s against %s: %.0f requests/s for %.0fs%n", report.getScenario(), report.getBaseUrl(),
+                report.getTargetRate(), report.getDurationSeconds()));
+        table.append(String.format(Locale.ROOT, "%-16s %9s %7s %8s %12s %9s %9s %9s %9s %9s%n",
+                "Operation", "Requests", "Errors", "Dropped", "Throughput/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        List<OperationStats> rows = new ArrayList<>(report.getOperations());
+        rows.add(report.getTotal());
+        for (OperationStats stats : rows) {
+            table.append(String.format(Locale.ROOT, "%-16s %9d %7d %8d %12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.getOperation(), stats.getRequests(), stats.getErrors(), stats.getDropped(),
+                    stats.getThroughput(), stats.getP50Millis(), stats.getP90Millis(), stats.getP99Millis(),
+                    stats.getP999Millis(), stats.getMaxMillis()));
+        }
+        return table.toString();
+    }
+
+    private Path write(ScenarioReport report, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+}
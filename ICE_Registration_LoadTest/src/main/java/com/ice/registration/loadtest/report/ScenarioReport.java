@@ -0,0 +1,93 @@
+package com.ice.registration.loadtest.report;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of one scenario run, written as JSON. A saved report is the baseline later runs are compared with.
+ */
+public class ScenarioReport {
+
+    private String scenario;
+    private String baseUrl;
+    private Instant startedAt;
+    private double targetRate;
+    private double durationSeconds;
+    private List<OperationStats> operations = new ArrayList<>();
+    private OperationStats total;
+
+    public ScenarioReport() {}
+
+    public ScenarioReport(String scenario, String baseUrl, Instant startedAt, double targetRate,
+                          double durationSeconds, List<OperationStats> operations) {
+        this.scenario = scenario;
+        this.baseUrl = baseUrl;
+        this.startedAt = startedAt;
+        this.targetRate = targetRate;
+        this.durationSeconds = durationSeconds;
+        this.operations = operations;
+        this.total = OperationStats.total(operations, durationSeconds);
+    }
+
+    public OperationStats findOperation(String operation) {
+        return operations.stream().filter(stats -> stats.getOperation().equals(operation)).findFirst().orElse(null);
+    }
+
+    // Getters and setters
+    public String getScenario() {
+        return scenario;
+    }
+
+    public void setScenario(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public void setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+    }
+
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(double durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public List<OperationStats> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<OperationStats> operations) {
+        this.operations = operations;
+    }
+
+    public OperationStats getTotal() {
+        return total;
+    }
+
+    public void setTotal(OperationStats total) {
+        this.total = total;
+    }
+}
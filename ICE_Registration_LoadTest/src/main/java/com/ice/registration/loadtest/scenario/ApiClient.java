@@ -0,0 +1,107 @@
+package com.ice.registration.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builds the requests for each {@link Operation} and discovers the catalogue they draw ids from.
+ */
+public class ApiClient {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DISCOVERY_PAGE_SIZE = 1000;
+    private static final int LIST_PAGE_SIZE = 100;
+
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final AtomicLong createdTracks = new AtomicLong();
+
+    public ApiClient(String baseUrl, Duration requestTimeout, ObjectMapper objectMapper) {
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        // The API speaks HTTP/1.1 only; connections are pooled and reused by the client
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Catalogue loadCatalogue(int maxArtists) throws IOException, InterruptedException {
+        IntStream.Builder artistIds = IntStream.builder();
+        int found = 0;
+        String cursor = null;
+        do {
+            String query = "api/artists?limit=" + DISCOVERY_PAGE_SIZE + (cursor == null ? "" : "&after=" + cursor);
+            HttpResponse<byte[]> response = get(query);
+            for (JsonNode artist : objectMapper.readTree(response.body())) {
+                artistIds.add(artist.get("id").asInt());
+                found++;
+            }
+            cursor = response.headers().firstValue(NEXT_CURSOR_HEADER).orElse(null);
+        } while (cursor != null && found < maxArtists);
+
+        int[] genreIds = StreamSupport.stream(objectMapper.readTree(get("api/genres").body()).spliterator(), false)
+                .mapToInt(genre -> genre.get("id").asInt())
+                .toArray();
+        return new Catalogue(artistIds.build().toArray(), genreIds);
+    }
+
+    public HttpRequest request(Operation operation, Catalogue catalogue, SplittableRandom random) {
+        return switch (operation) {
+            case LIST_ARTISTS -> getRequest("api/artists?limit=" + LIST_PAGE_SIZE
+                    + "&after=" + (catalogue.randomArtistId(random) - 1));
+            case ARTIST_TRACKS -> getRequest("api/artists/" + catalogue.randomArtistId(random) + "/tracks");
+            case ARTIST -> getRequest("api/artists/" + catalogue.randomArtistId(random));
+            case FEATURED_ARTIST -> getRequest("api/artists/featured");
+            case CREATE_TRACK -> {
+                ObjectNode track = objectMapper.createObjectNode()
+                        .put("title", "Load test track " + createdTracks.incrementAndGet())
+                        .put("genreId", catalogue.randomGenreId(random))
+                        .put("lengthSeconds", 120 + random.nextInt(240));
+                track.putArray("artistIds").add(catalogue.randomArtistId(random));
+                yield HttpRequest.newBuilder(baseUri.resolve("api/tracks"))
+                        .timeout(requestTimeout)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(track.toString()))
+                        .build();
+            }
+        };
+    }
+
+    private HttpRequest getRequest(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(getRequest(path), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("GET " + baseUri.resolve(path) + " returned " + response.statusCode());
+        }
+        return response;
+    }
+}
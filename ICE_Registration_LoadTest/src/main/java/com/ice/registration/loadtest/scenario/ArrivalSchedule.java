@@ -0,0 +1,33 @@
+package com.ice.registration.loadtest.scenario;
+
+import java.util.SplittableRandom;
+
+/**
+ * Start times of an open-model workload, in nanoseconds from the start of the run. They depend only
+ * on the rate and seed, never on how quickly the server answers.
+ */
+public class ArrivalSchedule {
+
+    private final LoadTestProperties.Arrival arrival;
+    private final double meanIntervalNanos;
+    private final SplittableRandom random;
+    private double next;
+
+    public ArrivalSchedule(LoadTestProperties.Arrival arrival, double ratePerSecond, long seed) {
+        if (ratePerSecond <= 0) {
+            throw new RuntimeException("Arrival rate must be positive");
+        }
+        this.arrival = arrival;
+        this.meanIntervalNanos = 1_000_000_000d / ratePerSecond;
+        this.random = new SplittableRandom(seed);
+    }
+
+    // Intended start of the next request
+    public long next() {
+        long start = (long) next;
+        next += arrival == LoadTestProperties.Arrival.POISSON
+                ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+                : meanIntervalNanos;
+        return start;
+    }
+}
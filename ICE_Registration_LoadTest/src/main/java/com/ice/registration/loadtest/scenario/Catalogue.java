@@ -0,0 +1,23 @@
+package com.ice.registration.loadtest.scenario;
+
+import java.util.SplittableRandom;
+
+/**
+ * Artist and genre ids that exist in the database under test.
+ */
+public record Catalogue(int[] artistIds, int[] genreIds) {
+
+    public Catalogue {
+        if (artistIds.length == 0 || genreIds.length == 0) {
+            throw new RuntimeException("The API under test has no artists or genres; load the sample data first");
+        }
+    }
+
+    public int randomArtistId(SplittableRandom random) {
+        return artistIds[random.nextInt(artistIds.length)];
+    }
+
+    public int randomGenreId(SplittableRandom random) {
+        return genreIds[random.nextInt(genreIds.length)];
+    }
+}
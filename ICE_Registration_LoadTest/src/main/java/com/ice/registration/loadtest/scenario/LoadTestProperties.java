@@ -0,0 +1,104 @@
+package com.ice.registration.loadtest.scenario;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The API under test and the scenarios that can be run against it, under {@code ice.loadtest}.
+ */
+@ConfigurationProperties("ice.loadtest")
+public class LoadTestProperties {
+
+    private String baseUrl = "http://localhost:8080";
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    // Artist ids are discovered by paging through /api/artists; large catalogues are sampled from the start
+    private int maxArtists = 100_000;
+
+    private Path reportDirectory = Path.of("target/loadtest");
+
+    private Path baselineDirectory = Path.of("baselines");
+
+    // Relative change in p50, p99 or throughput beyond which a comparison with a baseline fails
+    private double tolerance = 0.10;
+
+    private Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public void setRequestTimeout(Duration requestTimeout) { this.requestTimeout = requestTimeout; }
+
+    public int getMaxArtists() { return maxArtists; }
+    public void setMaxArtists(int maxArtists) { this.maxArtists = maxArtists; }
+
+    public Path getReportDirectory() { return reportDirectory; }
+    public void setReportDirectory(Path reportDirectory) { this.reportDirectory = reportDirectory; }
+
+    public Path getBaselineDirectory() { return baselineDirectory; }
+    public void setBaselineDirectory(Path baselineDirectory) { this.baselineDirectory = baselineDirectory; }
+
+    public double getTolerance() { return tolerance; }
+    public void setTolerance(double tolerance) { this.tolerance = tolerance; }
+
+    public Map<String, Scenario> getScenarios() { return scenarios; }
+    public void setScenarios(Map<String, Scenario> scenarios) { this.scenarios = scenarios; }
+
+    /**
+     * An open-model workload: requests start at {@code rate} per second whatever the response
+     * times, and each is one of the {@code operations}, picked at random by weight.
+     */
+    public static class Scenario {
+
+        private double rate = 100;
+
+        private Arrival arrival = Arrival.POISSON;
+
+        private Duration warmup = Duration.ofSeconds(10);
+
+        private Duration duration = Duration.ofSeconds(60);
+
+        // Requests due while this many are outstanding are counted as dropped rather than queued in the generator
+        private int maxInFlight = 2000;
+
+        // Fixed so that two runs of a scenario send the same sequence of operations
+        private long seed = 42;
+
+        private Map<Operation, Integer> operations = new EnumMap<>(Operation.class);
+
+        public double getRate() { return rate; }
+        public void setRate(double rate) { this.rate = rate; }
+
+        public Arrival getArrival() { return arrival; }
+        public void setArrival(Arrival arrival) { this.arrival = arrival; }
+
+        public Duration getWarmup() { return warmup; }
+        public void setWarmup(Duration warmup) { this.warmup = warmup; }
+
+        public Duration getDuration() { return duration; }
+        public void setDuration(Duration duration) { this.duration = duration; }
+
+        public int getMaxInFlight() { return maxInFlight; }
+        public void setMaxInFlight(int maxInFlight) { this.maxInFlight = maxInFlight; }
+
+        public long getSeed() { return seed; }
+        public void setSeed(long seed) { this.seed = seed; }
+
+        public Map<Operation, Integer> getOperations() { return operations; }
+        public void setOperations(Map<Operation, Integer> operations) { this.operations = operations; }
+    }
+
+    public enum Arrival {
+        // Evenly spaced requests
+        CONSTANT,
+        // Exponentially distributed gaps, as from many independent users
+        POISSON
+    }
+}
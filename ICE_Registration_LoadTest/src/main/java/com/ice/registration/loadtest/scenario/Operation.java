@@ -0,0 +1,18 @@
+package com.ice.registration.loadtest.scenario;
+
+/**
+ * The API calls a scenario can mix. Artist and genre ids are drawn from the catalogue
+ * discovered before the run.
+ */
+public enum Operation {
+    // GET /api/artists?after={random id}&limit=100
+    LIST_ARTISTS,
+    // GET /api/artists/{random id}/tracks
+    ARTIST_TRACKS,
+    // GET /api/artists/{random id}
+    ARTIST,
+    // GET /api/artists/featured
+    FEATURED_ARTIST,
+    // POST /api/tracks for a random artist and genre
+    CREATE_TRACK
+}
@@ -0,0 +1,39 @@
+package com.ice.registration.loadtest.scenario;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Picks operations at random in proportion to their weights.
+ */
+public class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    public OperationMix(Map<Operation, Integer> weights) {
+        operations = weights.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(Operation[]::new);
+        if (operations.length == 0) {
+            throw new RuntimeException("A scenario needs at least one operation with a positive weight");
+        }
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Operation next(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
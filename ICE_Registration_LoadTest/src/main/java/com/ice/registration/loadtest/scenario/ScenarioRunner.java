@@ -0,0 +1,103 @@
+package com.ice.registration.loadtest.scenario;
+
+import com.ice.registration.loadtest.report.OperationRecorder;
+import com.ice.registration.loadtest.report.OperationStats;
+import com.ice.registration.loadtest.report.ScenarioReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a scenario as an open model: one thread starts requests on the {@link ArrivalSchedule}
+ * and each request runs on its own virtual thread, so a slow server builds up outstanding
+ * requests instead of slowing the arrivals down. Requests due during the warmup are sent but
+ * not recorded.
+ */
+public class ScenarioRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScenarioRunner.class);
+
+    private final ApiClient apiClient;
+    private final String baseUrl;
+
+    public ScenarioRunner(ApiClient apiClient, String baseUrl) {
+        this.apiClient = apiClient;
+        this.baseUrl = baseUrl;
+    }
+
+    public ScenarioReport run(String name, LoadTestProperties.Scenario scenario, Catalogue catalogue) {
+        OperationMix mix = new OperationMix(scenario.getOperations());
+        ArrivalSchedule schedule = new ArrivalSchedule(scenario.getArrival(), scenario.getRate(), scenario.getSeed());
+        SplittableRandom random = new SplittableRandom(scenario.getSeed());
+        Map<Operation, OperationRecorder> recorders = new EnumMap<>(Operation.class);
+        scenario.getOperations().keySet().forEach(operation -> recorders.put(operation, new OperationRecorder()));
+        Semaphore inFlight = new Semaphore(scenario.getMaxInFlight());
+        HttpClient httpClient = apiClient.getHttpClient();
+
+        long warmupNanos = scenario.getWarmup().toNanos();
+        long endNanos = warmupNanos + scenario.getDuration().toNanos();
+        log.info("Running {} at {} requests/s for {} after {} warmup", name, scenario.getRate(),
+                scenario.getDuration(), scenario.getWarmup());
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long offset = schedule.next(); offset < endNanos; offset = schedule.next()) {
+                long intendedStart = start + offset;
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+
+                Operation operation = mix.next(random);
+                // Drawn here rather than on the request thread, so the sequence only depends on the seed
+                HttpRequest request = apiClient.request(operation, catalogue, random.split());
+                OperationRecorder recorder = offset >= warmupNanos ? recorders.get(operation) : null;
+                if (!inFlight.tryAcquire()) {
+                    if (recorder != null) {
+                        recorder.recordDropped();
+                    }
+                    continue;
+                }
+                requests.execute(() -> {
+                    try {
+                        boolean success = send(httpClient, request);
+                        if (recorder != null) {
+                            recorder.recordResponse(System.nanoTime() - intendedStart, success);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        double durationSeconds = scenario.getDuration().toNanos() / 1e9;
+        List<OperationStats> operations = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> operations.add(recorder.toStats(operation.name(), durationSeconds)));
+        return new ScenarioReport(name, baseUrl, startedAt, scenario.getRate(), durationSeconds, operations);
+    }
+
+    private static boolean send(HttpClient httpClient, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Timeouts and refused connections count as failed requests
+            return false;
+        }
+    }
+}
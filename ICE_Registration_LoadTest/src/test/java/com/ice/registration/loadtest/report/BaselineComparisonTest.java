@@ -0,0 +1,109 @@
+package com.ice.registration.loadtest.report;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaselineComparisonTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void compare_ShouldPassWhenWithinTolerance() {
+        // Given
+        ScenarioReport baseline = report(latencies(1000, 10_000, 40_000), 0);
+        ScenarioReport current = report(latencies(1000, 10_500, 42_000), 0);
+
+        // When
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 0.10);
+
+        // Then
+        assertFalse(comparison.hasRegressions(), comparison.format());
+    }
+
+    @Test
+    void compare_ShouldFlagSlowerP99() {
+        // Given
+        ScenarioReport baseline = report(latencies(1000, 10_000, 40_000), 0);
+        ScenarioReport current = report(latencies(1000, 10_000, 80_000), 0);
+
+        // When
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 0.10);
+
+        // Then
+        assertTrue(comparison.hasRegressions());
+        assertTrue(comparison.getChanges().stream()
+                .anyMatch(change -> change.regression() && change.metric().equals("p99 ms")
+                        && change.operation().equals("ARTIST_TRACKS")));
+        assertTrue(comparison.format().contains("REGRESSION"));
+    }
+
+    @Test
+    void compare_ShouldIgnoreSubMillisecondChanges() {
+        // Given
+        ScenarioReport baseline = report(latencies(1000, 200, 400), 0);
+        ScenarioReport current = report(latencies(1000, 400, 800), 0);
+
+        // When
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 0.10);
+
+        // Then
+        assertFalse(comparison.hasRegressions(), comparison.format());
+    }
+
+    @Test
+    void compare_ShouldFlagMoreErrors() {
+        // Given
+        ScenarioReport baseline = report(latencies(1000, 10_000, 40_000), 0);
+        ScenarioReport current = report(latencies(1000, 10_000, 40_000), 50);
+
+        // When
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 0.10);
+
+        // Then
+        assertTrue(comparison.hasRegressions());
+    }
+
+    @Test
+    void savedBaseline_ShouldKeepTheFullHistogram() throws Exception {
+        // Given
+        ReportWriter reportWriter = new ReportWriter(JsonMapper.builder().findAndAddModules().build());
+        ScenarioReport report = report(latencies(1000, 10_000, 40_000), 3);
+
+        // When
+        ScenarioReport saved = reportWriter.read(reportWriter.writeBaseline(report, directory));
+
+        // Then
+        assertEquals(directory.resolve("read-heavy.json"), ReportWriter.baselineFile("read-heavy", directory));
+        assertEquals(report.getStartedAt(), saved.getStartedAt());
+        OperationStats tracks = saved.findOperation("ARTIST_TRACKS");
+        assertEquals(1000, tracks.getRequests());
+        assertEquals(3, tracks.getErrors());
+        assertEquals(report.getTotal().getP99Millis(), saved.getTotal().getP99Millis());
+        assertEquals(report.findOperation("ARTIST_TRACKS").decodeHistogram(), tracks.decodeHistogram());
+        assertTrue(ReportWriter.format(saved).contains("ARTIST_TRACKS"));
+    }
+
+    // count requests, 98% at typicalMicros and 2% at slowMicros
+    private static Histogram latencies(int count, long typicalMicros, long slowMicros) {
+        Histogram histogram = new Histogram(3);
+        histogram.recordValueWithCount(typicalMicros, count * 98L / 100);
+        histogram.recordValueWithCount(slowMicros, count * 2L / 100);
+        return histogram;
+    }
+
+    private static ScenarioReport report(Histogram latencies, long errors) {
+        OperationStats tracks = OperationStats.of("ARTIST_TRACKS", latencies, errors, 0, 10);
+        OperationStats featured = OperationStats.of("FEATURED_ARTIST", latencies(1000, 500, 900), 0, 0, 10);
+        return new ScenarioReport("read-heavy", "http://localhost:8080", Instant.parse("2025-06-01T10:00:00Z"),
+                200, 10, List.of(tracks, featured));
+    }
+}
@@ -0,0 +1,69 @@
+package com.ice.registration.loadtest.scenario;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestPropertiesTest {
+
+    @Test
+    void bundledScenarios_ShouldBindOperationWeights() throws Exception {
+        // Given
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(
+                PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties")));
+
+        // When
+        LoadTestProperties properties = new Binder(source).bind("ice.loadtest", LoadTestProperties.class).get();
+
+        // Then
+        LoadTestProperties.Scenario mixed = properties.getScenarios().get("mixed");
+        assertEquals(150, mixed.getRate());
+        assertEquals(LoadTestProperties.Arrival.POISSON, mixed.getArrival());
+        assertEquals(20, mixed.getOperations().get(Operation.CREATE_TRACK));
+        assertEquals(40, mixed.getOperations().get(Operation.ARTIST_TRACKS));
+        assertTrue(properties.getScenarios().keySet().containsAll(List.of("read-heavy", "featured-spike")));
+    }
+
+    @Test
+    void poissonArrivals_ShouldAverageTheConfiguredRate() {
+        // Given
+        ArrivalSchedule schedule = new ArrivalSchedule(LoadTestProperties.Arrival.POISSON, 1000, 7);
+
+        // When
+        int arrivals = 0;
+        while (schedule.next() < 10_000_000_000L) {
+            arrivals++;
+        }
+
+        // Then
+        assertEquals(10_000, arrivals, 300);
+    }
+
+    @Test
+    void operationMix_ShouldPickInProportionToWeights() {
+        // Given
+        OperationMix mix = new OperationMix(Map.of(Operation.ARTIST, 3, Operation.FEATURED_ARTIST, 1, Operation.CREATE_TRACK, 0));
+        SplittableRandom random = new SplittableRandom(1);
+
+        // When
+        int artist = 0;
+        for (int i = 0; i < 10_000; i++) {
+            Operation operation = mix.next(random);
+            assertNotEquals(Operation.CREATE_TRACK, operation);
+            if (operation == Operation.ARTIST) {
+                artist++;
+            }
+        }
+
+        // Then
+        assertEquals(7500, artist, 200);
+    }
+}
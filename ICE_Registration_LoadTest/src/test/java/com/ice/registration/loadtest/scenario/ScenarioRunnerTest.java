@@ -0,0 +1,159 @@
+package com.ice.registration.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.registration.loadtest.report.OperationStats;
+import com.ice.registration.loadtest.report.ScenarioReport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs scenarios against an in-process stub of the API.
+ */
+class ScenarioRunnerTest {
+
+    private HttpServer server;
+    private ApiClient apiClient;
+    private final AtomicInteger createdTracks = new AtomicInteger();
+    private volatile long tracksDelayMillis;
+    private volatile int createTrackStatus = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/genres", exchange -> respond(exchange, 200, "[{\"id\":1,\"name\":\"Rock\"},{\"id\":2,\"name\":\"Metal\"}]"));
+        server.createContext("/api/artists", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/tracks")) {
+                sleep(tracksDelayMillis);
+                respond(exchange, 200, "[]");
+            } else if (path.equals("/api/artists") && exchange.getRequestURI().getQuery().contains("after=")) {
+                respond(exchange, 200, "[{\"id\":3}]");
+            } else if (path.equals("/api/artists")) {
+                exchange.getResponseHeaders().add("X-Next-Cursor", "2");
+                respond(exchange, 200, "[{\"id\":1},{\"id\":2}]");
+            } else {
+                respond(exchange, 200, "{\"id\":1}");
+            }
+        });
+        server.createContext("/api/tracks", exchange -> {
+            createdTracks.incrementAndGet();
+            respond(exchange, createTrackStatus, "{}");
+        });
+        server.start();
+        apiClient = new ApiClient("http://localhost:" + server.getAddress().getPort(), Duration.ofSeconds(5), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void loadCatalogue_ShouldFollowCursorThroughEveryPage() throws Exception {
+        // When
+        Catalogue catalogue = apiClient.loadCatalogue(100);
+
+        // Then
+        assertArrayEquals(new int[] {1, 2, 3}, catalogue.artistIds());
+        assertArrayEquals(new int[] {1, 2}, catalogue.genreIds());
+    }
+
+    @Test
+    void run_ShouldSendRequestsAtTheConfiguredRateInTheConfiguredMix() throws Exception {
+        // Given
+        LoadTestProperties.Scenario scenario = scenario(200, Map.of(Operation.ARTIST_TRACKS, 3, Operation.CREATE_TRACK, 1));
+
+        // When
+        ScenarioReport report = runner().run("mixed", scenario, apiClient.loadCatalogue(100));
+
+        // Then
+        assertEquals(200, report.getTotal().getRequests()); // Constant arrivals: one every 5ms for a second
+        assertEquals(0, report.getTotal().getErrors());
+        OperationStats tracks = report.findOperation("ARTIST_TRACKS");
+        OperationStats creates = report.findOperation("CREATE_TRACK");
+        assertEquals(200, tracks.getRequests() + creates.getRequests());
+        assertTrue(tracks.getRequests() > creates.getRequests() * 2);
+        assertEquals(creates.getRequests(), createdTracks.get());
+    }
+
+    @Test
+    void run_ShouldKeepArrivalRateWhenServerIsSlow() throws Exception {
+        // Given
+        tracksDelayMillis = 100;
+        LoadTestProperties.Scenario scenario = scenario(100, Map.of(Operation.ARTIST_TRACKS, 1));
+
+        // When
+        long started = System.nanoTime();
+        ScenarioReport report = runner().run("slow", scenario, apiClient.loadCatalogue(100));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertEquals(100, report.getTotal().getRequests()); // Open model: arrivals do not wait for responses
+        assertTrue(elapsedMillis < 1900, "took " + elapsedMillis + "ms");
+        assertTrue(report.getTotal().getP50Millis() >= 100);
+    }
+
+    @Test
+    void run_ShouldCountFailedAndDroppedRequests() throws Exception {
+        // Given
+        createTrackStatus = 500;
+        tracksDelayMillis = 500;
+        LoadTestProperties.Scenario scenario = scenario(100, Map.of(Operation.CREATE_TRACK, 1, Operation.ARTIST_TRACKS, 1));
+        scenario.setMaxInFlight(5);
+
+        // When
+        ScenarioReport report = runner().run("failing", scenario, apiClient.loadCatalogue(100));
+
+        // Then
+        OperationStats creates = report.findOperation("CREATE_TRACK");
+        assertEquals(creates.getRequests(), creates.getErrors());
+        assertEquals(0, creates.getThroughput());
+        assertTrue(report.getTotal().getDropped() > 0); // Slow track lists fill the in-flight limit
+        assertEquals(100, report.getTotal().getRequests() + report.getTotal().getDropped());
+    }
+
+    private ScenarioRunner runner() {
+        return new ScenarioRunner(apiClient, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    private static LoadTestProperties.Scenario scenario(double rate, Map<Operation, Integer> operations) {
+        LoadTestProperties.Scenario scenario = new LoadTestProperties.Scenario();
+        scenario.setRate(rate);
+        scenario.setArrival(LoadTestProperties.Arrival.CONSTANT);
+        scenario.setWarmup(Duration.ZERO);
+        scenario.setDuration(Duration.ofSeconds(1));
+        scenario.setOperations(operations);
+        return scenario;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
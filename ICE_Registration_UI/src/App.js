@@ -4,15 +4,22 @@ import { ChevronLeft, Music, User, Edit2, Check, X, Plus } from 'lucide-react';
 // API configuration
 const API_BASE_URL = 'http://localhost:8080/api';
 
+// Sends the API's cookies with every request. After a write the API sets one that keeps this
+// browser's reads on the primary database until the replicas have caught up with the write.
+const API_CREDENTIALS = 'include';
+
 // API functions
-const fetchArtists = async () => {
+// Fetches one page of artists (the API's default page size); pass the previous page's
+// nextCursor as after to get the page that follows it. nextCursor is null on the last page.
+const fetchArtists = async (after = null) => {
   try {
-    const response = await fetch(`${API_BASE_URL}/artists`);
+    const cursor = after === null ? '' : `?after=${encodeURIComponent(after)}`;
+    const response = await fetch(`${API_BASE_URL}/artists${cursor}`, { credentials: API_CREDENTIALS });
     if (!response.ok) {
       throw new Error(`HTTP error! status: ${response.status}`);
     }
-    const data = await response.json();
-    return data;
+    const artists = await response.json();
+    return { artists, nextCursor: response.headers.get('X-Next-Cursor') };
   } catch (error) {
     console.error('Error fetching artists:', error);
     throw error;
@@ -21,7 +28,7 @@ const fetchArtists = async () => {
 
 const fetchArtistTracks = async (artistId) => {
   try {
-    const response = await fetch(`${API_BASE_URL}/artists/${artistId}/tracks`);
+    const response = await fetch(`${API_BASE_URL}/artists/${artistId}/tracks`, { credentials: API_CREDENTIALS });
     if (!response.ok) {
       throw new Error(`HTTP error! status: ${response.status}`);
     }
@@ -35,7 +42,7 @@ const fetchArtistTracks = async (artistId) => {
 
 const fetchFeaturedArtist = async () => {
   try {
-    const response = await fetch(`${API_BASE_URL}/artists/featured`);
+    const response = await fetch(`${API_BASE_URL}/artists/featured`, { credentials: API_CREDENTIALS });
     if (!response.ok) {
       throw new Error(`HTTP error! status: ${response.status}`);
     }
@@ -51,6 +58,7 @@ const updateArtist = async (artistId, artistData) => {
   try {
     const response = await fetch(`${API_BASE_URL}/artists/${artistId}`, {
       method: 'PUT',
+      credentials: API_CREDENTIALS,
       headers: {
         'Content-Type': 'application/json',
       },
@@ -69,7 +77,7 @@ const updateArtist = async (artistId, artistData) => {
 
 const fetchGenres = async () => {
   try {
-    const response = await fetch(`${API_BASE_URL}/genres`);
+    const response = await fetch(`${API_BASE_URL}/genres`, { credentials: API_CREDENTIALS });
     if (!response.ok) {
       throw new Error(`HTTP error! status: ${response.status}`);
     }
@@ -85,6 +93,7 @@ const createTrack = async (trackData) => {
   try {
     const response = await fetch(`${API_BASE_URL}/tracks`, {
       method: 'POST',
+      credentials: API_CREDENTIALS,
       headers: {
         'Content-Type': 'application/json',
       },
@@ -104,20 +113,24 @@ const createTrack = async (trackData) => {
 // Artist Selection Page Component
 const ArtistSelectionPage = ({ onArtistSelect }) => {
   const [artists, setArtists] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [featuredArtist, setFeaturedArtist] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState(null);
+  const [loadMoreError, setLoadMoreError] = useState(null);
 
   useEffect(() => {
     const loadData = async () => {
       try {
         setLoading(true);
         setError(null);
-        const [artistData, featuredData] = await Promise.all([
+        const [artistPage, featuredData] = await Promise.all([
           fetchArtists(),
           fetchFeaturedArtist()
         ]);
-        setArtists(artistData);
+        setArtists(artistPage.artists);
+        setNextCursor(artistPage.nextCursor);
         setFeaturedArtist(featuredData);
       } catch (err) {
         setError('Failed to load artists. Please try again later.');
@@ -129,6 +142,21 @@ const ArtistSelectionPage = ({ onArtistSelect }) => {
     loadData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      setLoadMoreError(null);
+      const artistPage = await fetchArtists(nextCursor);
+      setArtists(prev => [...prev, ...artistPage.artists]);
+      setNextCursor(artistPage.nextCursor);
+    } catch (err) {
+      setLoadMoreError('Failed to load more artists.');
+      console.error('Error loading more artists:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   if (loading) {
     return (
         <div className="flex items-center justify-center min-h-screen" style={{ backgroundColor: '#0d0d0d' }}>
@@ -285,6 +313,22 @@ const ArtistSelectionPage = ({ onArtistSelect }) => {
               </table>
             </div>
         )}
+
+        {nextCursor !== null && (
+            <div className="mt-6 text-center">
+              {loadMoreError && (
+                  <div className="text-sm mb-2" style={{ color: '#a3022d' }}>{loadMoreError}</div>
+              )}
+              <button
+                  onClick={handleLoadMore}
+                  disabled={loadingMore}
+                  className="px-4 py-2 rounded text-white disabled:opacity-50"
+                  style={{ backgroundColor: '#17a6b1' }}
+              >
+                {loadingMore ? 'Loading...' : 'Load more artists'}
+              </button>
+            </div>
+        )}
       </div>
   );
 };